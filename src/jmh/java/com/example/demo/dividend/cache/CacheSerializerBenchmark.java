@@ -0,0 +1,73 @@
+package com.example.demo.dividend.cache;
+
+import com.example.demo.dividend.model.Company;
+import com.example.demo.dividend.model.Dividend;
+import com.example.demo.dividend.model.ScrapedResult;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// finance 캐시 값(ScrapedResult)을 기존 JSON과 CompactCacheSerializer로 기록/복원하는 시간을 비교함
+// 직렬화된 크기(bytes)는 각 설정의 시작 시 출력됨
+// 실행: ./gradlew jmh -PjmhIncludes=CacheSerializerBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(time = 2)
+@Measurement(time = 2)
+public class CacheSerializerBenchmark {
+
+    // 분기 배당 기준으로 5년, 60년치 배당금 내역
+    @Param({"20", "240"})
+    private int dividends;
+
+    // json: 기존 방식, compact: 압축 없음, compact-deflate: 항상 압축
+    @Param({"json", "compact", "compact-deflate"})
+    private String format;
+
+    private ScrapedResult value;
+    private RedisSerializer<Object> serializer;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer()
+                .configure(objectMapper -> objectMapper.registerModule(new JavaTimeModule()));
+        this.serializer = switch (this.format) {
+            case "json" -> json;
+            case "compact" -> new CompactCacheSerializer(json, Integer.MAX_VALUE);
+            case "compact-deflate" -> new CompactCacheSerializer(json, 0);
+            default -> throw new IllegalArgumentException(this.format);
+        };
+        this.value = scrapedResult(this.dividends);
+        this.bytes = this.serializer.serialize(this.value);
+        System.out.printf("%n[%s, dividends=%d] serialized size: %d bytes%n", this.format, this.dividends, this.bytes.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return this.serializer.serialize(this.value);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return this.serializer.deserialize(this.bytes);
+    }
+
+    static ScrapedResult scrapedResult(int count) {
+        List<Dividend> dividends = new ArrayList<>(count);
+        LocalDateTime date = LocalDateTime.of(1964, 3, 13, 0, 0);
+        for (int i = 0; i < count; i++) {
+            BigDecimal amount = new BigDecimal("0.0425").add(BigDecimal.valueOf(i * 37L % 500, 4));
+            dividends.add(new Dividend(date.plusMonths(3L * i), amount));
+        }
+        return new ScrapedResult(new Company(1L, "KO", "The Coca-Cola Company"), dividends);
+    }
+}
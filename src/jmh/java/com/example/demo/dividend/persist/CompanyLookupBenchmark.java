@@ -0,0 +1,139 @@
+package com.example.demo.dividend.persist;
+
+import com.example.demo.dividend.persist.entity.CompanyEntity;
+import com.example.demo.dividend.persist.repository.CompanyRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 회사 수에 따른 회사명 조회(findByName)와 자동완성(접두어 검색) 지연 시간을 인덱스 유무별로 측정함
+// - indexed=false: idx_company_name / idx_company_name_lower 를 지운 상태 (기존 스키마와 같은 전체 테이블 스캔)
+// - autocompleteUpperLike: 기존 자동완성 쿼리(upper(name) like upper(?) + count)는 인덱스가 있어도 사용할 수 없음을 비교하기 위함
+// 실행: ./gradlew jmh -PjmhIncludes=CompanyLookupBenchmark (MySQL은 -PjmhJdbcUrl=... 로 벤치마크 전용 스키마 지정)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(time = 2)
+@Measurement(time = 2)
+public class CompanyLookupBenchmark {
+
+    private static final String[] WORDS = {
+            "Apex", "Blue", "Cedar", "Delta", "Ember", "Falcon", "Granite", "Harbor", "Iron", "Juniper",
+            "Keystone", "Lumen", "Maple", "Northern", "Orion", "Pioneer", "Quartz", "River", "Summit", "Titan"
+    };
+    private static final String[] SUFFIXES = {"Inc.", "Corporation", "Holdings", "Group", "Ltd."};
+
+    @Param({"10000", "100000"})
+    private int companies;
+
+    @Param({"true", "false"})
+    private boolean indexed;
+
+    private HikariDataSource dataSource;
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+    private CompanyRepository companyRepository;
+    private List<String> names;
+
+    @Setup
+    public void setUp() {
+        this.dataSource = new HikariDataSource();
+        this.dataSource.setJdbcUrl(System.getProperty("bench.jdbc.url", "jdbc:h2:mem:lookup;DB_CLOSE_DELAY=-1"));
+        this.dataSource.setUsername(System.getProperty("bench.jdbc.username", "sa"));
+        this.dataSource.setPassword(System.getProperty("bench.jdbc.password", ""));
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(this.dataSource);
+        factoryBean.setPackagesToScan("com.example.demo.dividend.persist.entity");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        // 애플리케이션과 같은 테이블/컬럼 이름(name_lower)을 사용하도록 스프링 부트의 명명 전략을 지정함
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create-drop",
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName()));
+        factoryBean.afterPropertiesSet();
+        this.entityManagerFactory = factoryBean.getObject();
+
+        this.entityManager = SharedEntityManagerCreator.createSharedEntityManager(this.entityManagerFactory);
+        this.companyRepository = new JpaRepositoryFactory(this.entityManager).getRepository(CompanyRepository.class);
+
+        this.names = insertCompanies(new JdbcTemplate(this.dataSource), this.companies);
+        if (!this.indexed) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(this.dataSource);
+            jdbcTemplate.execute("drop index idx_company_name" + onTable());
+            jdbcTemplate.execute("drop index idx_company_name_lower" + onTable());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.entityManagerFactory.close();
+        this.dataSource.close();
+    }
+
+    @Benchmark
+    public Optional<CompanyEntity> findByName() {
+        return this.companyRepository.findByName(this.randomName());
+    }
+
+    @Benchmark
+    public List<CompanyEntity> autocomplete() {
+        String prefix = CompanyEntity.normalizeName(this.randomName().substring(0, 6));
+        return this.companyRepository.findByNameLowerStartingWithOrderByNameLowerAsc(prefix, PageRequest.of(0, 10));
+    }
+
+    // 기존 findByNameStartingWithIgnoreCase(keyword, PageRequest.of(0, 10))와 같이 목록 조회 후 Page를 위한 count 쿼리까지 실행함
+    @Benchmark
+    public long autocompleteUpperLike() {
+        String prefix = this.randomName().substring(0, 6) + "%";
+        List<CompanyEntity> content = this.entityManager
+                .createQuery("select c from COMPANY c where upper(c.name) like upper(:prefix)", CompanyEntity.class)
+                .setParameter("prefix", prefix)
+                .setMaxResults(10)
+                .getResultList();
+        Long total = this.entityManager
+                .createQuery("select count(c) from COMPANY c where upper(c.name) like upper(:prefix)", Long.class)
+                .setParameter("prefix", prefix)
+                .getSingleResult();
+        return content.size() + total;
+    }
+
+    private String randomName() {
+        return this.names.get(ThreadLocalRandom.current().nextInt(this.names.size()));
+    }
+
+    private String onTable() {
+        // MySQL은 drop index 에 테이블을 지정해야 함
+        return this.dataSource.getJdbcUrl().startsWith("jdbc:mysql") ? " on company" : "";
+    }
+
+    // 엔티티를 하나씩 저장하면 준비 시간이 길어지므로 JDBC 배치로 넣음
+    private static List<String> insertCompanies(JdbcTemplate jdbcTemplate, int count) {
+        Random random = new Random(42);
+        List<String> names = new ArrayList<>(count);
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                    + " " + i + " " + SUFFIXES[random.nextInt(SUFFIXES.length)];
+            names.add(name);
+            rows.add(new Object[]{"T" + i, name, CompanyEntity.normalizeName(name)});
+        }
+        jdbcTemplate.batchUpdate("insert into company (ticker, name, name_lower) values (?, ?, ?)", rows);
+        return names;
+    }
+}
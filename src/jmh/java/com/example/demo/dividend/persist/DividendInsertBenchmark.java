@@ -0,0 +1,104 @@
+package com.example.demo.dividend.persist;
+
+import com.example.demo.dividend.persist.entity.CompanyEntity;
+import com.example.demo.dividend.persist.entity.DividendEntity;
+import com.example.demo.dividend.persist.repository.CompanyRepository;
+import com.example.demo.dividend.persist.repository.DividendRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 회사 1개와 배당금 250개를 CompanyService와 같은 방식(saveAll)으로 저장할 때의 초당 저장 행 수를 측정함
+// batchSize=1 은 배치 없이 행마다 insert를 보내는 경우, 50 은 application.yml 설정과 같은 경우임
+// 실행(H2 메모리 DB): ./gradlew jmh -PjmhIncludes=DividendInsertBenchmark
+// 실행(MySQL): ./gradlew jmh -PjmhIncludes=DividendInsertBenchmark -PjmhJdbcUrl='jdbc:mysql://localhost:3306/bench?rewriteBatchedStatements=true'
+//   (테이블을 새로 만들고 지우므로 반드시 벤치마크 전용 스키마를 사용해야 함)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DividendInsertBenchmark {
+
+    private static final int DIVIDENDS_PER_COMPANY = 250;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private final AtomicLong tickerSequence = new AtomicLong();
+
+    private HikariDataSource dataSource;
+    private EntityManagerFactory entityManagerFactory;
+    private TransactionTemplate transactionTemplate;
+    private CompanyRepository companyRepository;
+    private DividendRepository dividendRepository;
+
+    @Setup
+    public void setUp() {
+        this.dataSource = new HikariDataSource();
+        this.dataSource.setJdbcUrl(System.getProperty("bench.jdbc.url", "jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1"));
+        this.dataSource.setUsername(System.getProperty("bench.jdbc.username", "sa"));
+        this.dataSource.setPassword(System.getProperty("bench.jdbc.password", ""));
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(this.dataSource);
+        factoryBean.setPackagesToScan("com.example.demo.dividend.persist.entity");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create-drop",
+                "hibernate.jdbc.batch_size", String.valueOf(this.batchSize),
+                "hibernate.order_inserts", "true"));
+        factoryBean.afterPropertiesSet();
+        this.entityManagerFactory = factoryBean.getObject();
+
+        this.transactionTemplate = new TransactionTemplate(new JpaTransactionManager(this.entityManagerFactory));
+        JpaRepositoryFactory repositoryFactory = new JpaRepositoryFactory(
+                SharedEntityManagerCreator.createSharedEntityManager(this.entityManagerFactory));
+        this.companyRepository = repositoryFactory.getRepository(CompanyRepository.class);
+        this.dividendRepository = repositoryFactory.getRepository(DividendRepository.class);
+    }
+
+    // 반복마다 쌓인 행을 지워 테이블 크기가 측정 결과에 영향을 주지 않게 함
+    @TearDown(Level.Iteration)
+    public void clear() {
+        this.transactionTemplate.executeWithoutResult(status -> {
+            this.dividendRepository.deleteAllInBatch();
+            this.companyRepository.deleteAllInBatch();
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.entityManagerFactory.close();
+        this.dataSource.close();
+    }
+
+    // 결과의 ops/s 가 곧 초당 저장한 배당금 행 수임
+    @Benchmark
+    @OperationsPerInvocation(DIVIDENDS_PER_COMPANY)
+    public int importCompany() {
+        String ticker = "BENCH" + this.tickerSequence.incrementAndGet();
+        return this.transactionTemplate.execute(status -> {
+            CompanyEntity company = this.companyRepository.save(new CompanyEntity(null, ticker, ticker + " Inc."));
+
+            LocalDateTime date = LocalDateTime.of(1962, 1, 1, 0, 0);
+            List<DividendEntity> dividends = new ArrayList<>(DIVIDENDS_PER_COMPANY);
+            for (int i = 0; i < DIVIDENDS_PER_COMPANY; i++) {
+                dividends.add(new DividendEntity(null, company.getId(), date.plusMonths(3L * i), new BigDecimal("0.2425")));
+            }
+            return this.dividendRepository.saveAll(dividends).size();
+        });
+    }
+}
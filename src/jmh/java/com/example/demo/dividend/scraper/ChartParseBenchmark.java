@@ -0,0 +1,101 @@
+package com.example.demo.dividend.scraper;
+
+import com.example.demo.dividend.model.Dividend;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 기존 방식(Jsoup Document -> text() -> readTree)과 스트리밍 파서의 처리 시간을 비교함
+// 실행: ./gradlew jmh -PjmhIncludes=ChartParseBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChartParseBenchmark {
+
+    // 월 단위 시세를 가진 기간(년)
+    @Param({"10", "60"})
+    private int years;
+
+    private byte[] payload;
+    private ObjectMapper objectMapper;
+    private ChartDividendParser streamingParser;
+
+    @Setup
+    public void setUp() {
+        this.payload = chartResponse(this.years).getBytes(StandardCharsets.UTF_8);
+        this.objectMapper = new ObjectMapper();
+        this.streamingParser = new ChartDividendParser();
+    }
+
+    @Benchmark
+    public List<Dividend> documentTree() throws IOException {
+        Document document = Jsoup.parse(new ByteArrayInputStream(this.payload), "UTF-8", "");
+        String jsonStr = document.text();
+
+        JsonNode root = this.objectMapper.readTree(jsonStr);
+        JsonNode events = root.path("chart").path("result").get(0).path("events").path("dividends");
+
+        List<Dividend> dividends = new ArrayList<>();
+        Iterator<JsonNode> elements = events.elements();
+        while (elements.hasNext()) {
+            JsonNode element = elements.next();
+            LocalDateTime date = LocalDateTime.ofEpochSecond(element.path("date").asLong(), 0, ZoneOffset.UTC);
+            dividends.add(new Dividend(date, element.path("amount").decimalValue()));
+        }
+        return dividends;
+    }
+
+    @Benchmark
+    public List<Dividend> streaming() throws IOException {
+        return this.streamingParser.parse(new ByteArrayInputStream(this.payload));
+    }
+
+    // 실제 v8 chart 응답과 같은 구조로 월별 시세와 분기 배당금을 가진 응답을 만듦
+    static String chartResponse(int years) {
+        int months = years * 12;
+        long start = LocalDateTime.of(2024 - years, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        long month = 30L * 24 * 60 * 60;
+
+        StringBuilder timestamps = new StringBuilder();
+        StringBuilder prices = new StringBuilder();
+        StringBuilder volumes = new StringBuilder();
+        StringBuilder dividends = new StringBuilder();
+        for (int i = 0; i < months; i++) {
+            long ts = start + i * month;
+            String sep = i == 0 ? "" : ",";
+            timestamps.append(sep).append(ts);
+            prices.append(sep).append(100 + (i % 37) * 1.137);
+            volumes.append(sep).append(1_000_000L + i * 7919L);
+            if (i % 3 == 1) {
+                if (dividends.length() > 0) {
+                    dividends.append(',');
+                }
+                dividends.append('"').append(ts).append("\":{\"amount\":")
+                        .append(0.2 + (i % 11) * 0.0125).append(",\"date\":").append(ts).append('}');
+            }
+        }
+
+        return "{\"chart\":{\"result\":[{"
+                + "\"meta\":{\"currency\":\"USD\",\"symbol\":\"BENCH\",\"exchangeName\":\"NMS\",\"instrumentType\":\"EQUITY\","
+                + "\"validRanges\":[\"1d\",\"5d\",\"1mo\",\"3mo\",\"6mo\",\"1y\",\"2y\",\"5y\",\"10y\",\"ytd\",\"max\"]},"
+                + "\"timestamp\":[" + timestamps + "],"
+                + "\"events\":{\"dividends\":{" + dividends + "}},"
+                + "\"indicators\":{\"quote\":[{"
+                + "\"open\":[" + prices + "],\"high\":[" + prices + "],\"low\":[" + prices + "],"
+                + "\"close\":[" + prices + "],\"volume\":[" + volumes + "]}],"
+                + "\"adjclose\":[{\"adjclose\":[" + prices + "]}]}"
+                + "}],\"error\":null}}";
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.demo.dividend.scraper;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// 기존 방식(Jsoup 전체 DOM -> getElementsByTag("h1"))과 스트리밍 추출기의 처리 시간/할당량을 비교함
+// 실행: ./gradlew jmh -PjmhIncludes=CompanyNameParseBenchmark (gc 프로파일러의 gc.alloc.rate.norm 값으로 할당량 비교)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CompanyNameParseBenchmark {
+
+    // quote 페이지 크기(KB)
+    @Param({"300", "1000"})
+    private int pageKb;
+
+    private byte[] payload;
+    private CompanyNameExtractor extractor;
+
+    @Setup
+    public void setUp() {
+        this.payload = quotePage(this.pageKb * 1024).getBytes(StandardCharsets.UTF_8);
+        this.extractor = new CompanyNameExtractor();
+    }
+
+    @Benchmark
+    public String documentTree() throws IOException {
+        Document document = Jsoup.parse(new ByteArrayInputStream(this.payload), null, "https://finance.yahoo.com/quote/BENCH");
+        return document.getElementsByTag("h1").first().text().split(" - ")[1].trim();
+    }
+
+    @Benchmark
+    public String streaming() throws IOException {
+        String heading = this.extractor.extract(
+                new InputStreamReader(new ByteArrayInputStream(this.payload), StandardCharsets.UTF_8));
+        return heading.split(" - ")[1].trim();
+    }
+
+    // 실제 quote 페이지처럼 큰 head(스타일/스크립트) 뒤에 제목이 오고, 그 뒤로 시세 표와 기사 목록이 이어지는 페이지를 만듦
+    static String quotePage(int size) {
+        StringBuilder html = new StringBuilder(size + 1024);
+        html.append("<!DOCTYPE html><html lang=\"en-US\"><head><meta charset=\"utf-8\"><title>BENCH Stock Price</title>");
+        int headEnd = size / 5;
+        while (html.length() < headEnd) {
+            html.append("<style>.yf-").append(html.length())
+                    .append("{display:flex;align-items:center;margin:0 4px;color:var(--text1)}</style>")
+                    .append("<script type=\"application/json\">{\"quoteType\":\"EQUITY\",\"regularMarketPrice\":")
+                    .append(html.length() % 997).append(".25,\"currency\":\"USD\"}</script>");
+        }
+        html.append("</head><body><header><nav><ul><li><a href=\"/\">Home</a></li><li><a href=\"/markets\">Markets</a></li></ul></nav></header>");
+        html.append("<section class=\"container yf-xxbei9\"><h1 class=\"yf-xxbei9\">BENCH - Benchmark Holdings Inc. (BENCH)</h1></section>");
+        int row = 0;
+        while (html.length() < size) {
+            html.append("<table class=\"yf-1jj98ts\"><tr><td class=\"label\">Previous Close</td><td class=\"value\">")
+                    .append(100 + row % 37).append(".42</td></tr><tr><td>Volume</td><td>").append(1_000_000 + row * 7919)
+                    .append("</td></tr></table><li class=\"stream-item\"><a href=\"/news/article-").append(row)
+                    .append(".html\"><h3>Market update ").append(row).append("</h3><p>Shares moved on earnings.</p></a></li>");
+            row++;
+        }
+        html.append("</body></html>");
+        return html.toString();
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.demo.dividend.cache;
+
+// 다른 노드의 로컬(L1) 캐시를 지우기 위해 Redis pub/sub으로 전달하는 메시지
+// key가 null이면 캐시 전체를 지움
+public record CacheInvalidation(String origin, String cacheName, String key) {
+
+    private static final String SEPARATOR = "|";
+    private static final String EVICT = "E";
+    private static final String CLEAR = "C";
+
+    static CacheInvalidation evict(String origin, String cacheName, Object key) {
+        return new CacheInvalidation(origin, cacheName, String.valueOf(key));
+    }
+
+    static CacheInvalidation clear(String origin, String cacheName) {
+        return new CacheInvalidation(origin, cacheName, null);
+    }
+
+    boolean isClear() {
+        return this.key == null;
+    }
+
+    // 키에는 구분자가 포함될 수 있으므로 항상 마지막에 둠
+    public String encode() {
+        return this.isClear()
+                ? String.join(SEPARATOR, CLEAR, this.origin, this.cacheName)
+                : String.join(SEPARATOR, EVICT, this.origin, this.cacheName, this.key);
+    }
+
+    static CacheInvalidation decode(String message) {
+        String[] parts = message.split("\\" + SEPARATOR, 4);
+        if (CLEAR.equals(parts[0]) && parts.length == 3) {
+            return new CacheInvalidation(parts[1], parts[2], null);
+        }
+        if (EVICT.equals(parts[0]) && parts.length == 4) {
+            return new CacheInvalidation(parts[1], parts[2], parts[3]);
+        }
+        throw new IllegalArgumentException("잘못된 캐시 무효화 메시지입니다 -> " + message);
+    }
+}
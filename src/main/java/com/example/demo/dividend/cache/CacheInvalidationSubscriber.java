@@ -0,0 +1,54 @@
+package com.example.demo.dividend.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+
+// 다른 노드가 발행한 캐시 무효화 메시지를 구독하여 TwoTierCacheManager로 전달함
+// - 컨테이너를 빈으로 등록하면 애플리케이션 시작 시 구독에 실패할 경우 시작 자체가 실패하므로, 주기적으로 구독을 시도함
+// - 구독하지 않은 동안에는 무효화 메시지를 놓쳤을 수 있으므로 구독이 (다시) 시작되면 L1을 모두 비움
+// - 구독 중 연결이 끊어지면 컨테이너가 스스로 재연결하므로, 그 동안에는 다시 시작하지 않음
+@Slf4j
+public class CacheInvalidationSubscriber implements DisposableBean {
+
+    private final RedisMessageListenerContainer container;
+    private final TwoTierCacheManager cacheManager;
+    private boolean listening;
+
+    public CacheInvalidationSubscriber(RedisConnectionFactory connectionFactory, TwoTierCacheManager cacheManager,
+                                       String channel) {
+        this.cacheManager = cacheManager;
+        this.container = new RedisMessageListenerContainer();
+        this.container.setConnectionFactory(connectionFactory);
+        this.container.addMessageListener(cacheManager, new ChannelTopic(channel));
+        this.container.afterPropertiesSet();
+    }
+
+    @Scheduled(fixedDelayString = "${cache.local.subscribe-retry-ms:10000}")
+    public synchronized void subscribe() {
+        // 실행 중이지만 구독하지 않은 상태는 컨테이너가 재연결하는 중이므로 기다림
+        if (!this.container.isRunning()) {
+            try {
+                this.container.start();
+            } catch (RuntimeException e) {
+                this.container.stop();
+                log.warn("캐시 무효화 메시지를 구독할 수 없습니다. 잠시 후 다시 시도합니다. - {}", e.getMessage());
+            }
+        }
+
+        boolean nowListening = this.container.isListening();
+        if (nowListening && !this.listening) {
+            this.cacheManager.clearLocal();
+            log.info("캐시 무효화 메시지 구독 시작");
+        }
+        this.listening = nowListening;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        this.container.destroy();
+    }
+}
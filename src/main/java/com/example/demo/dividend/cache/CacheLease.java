@@ -0,0 +1,13 @@
+package com.example.demo.dividend.cache;
+
+import java.time.Duration;
+
+// 캐시 항목을 불러올 권한을 여러 노드 중 하나에게만 주기 위한 임대
+// 임대를 가진 노드가 응답하지 않더라도 ttl이 지나면 자동으로 풀림
+public interface CacheLease {
+
+    boolean tryAcquire(String key, String token, Duration ttl);
+
+    // 자신이 얻은 임대(token이 같은 경우)만 반납함
+    void release(String key, String token);
+}
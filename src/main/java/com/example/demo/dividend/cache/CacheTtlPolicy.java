@@ -0,0 +1,89 @@
+package com.example.demo.dividend.cache;
+
+import com.example.demo.dividend.model.Dividend;
+import com.example.demo.dividend.model.ScrapedResult;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 캐시 항목을 저장할 때마다 TTL을 정하는 정책 (RedisCacheConfiguration.entryTtl(TtlFunction)로 사용됨)
+// - 기본: ttl에 0 ~ ttl * jitter 사이의 무작위 시간을 더해, 함께 저장된 항목들이 한꺼번에 만료되지 않게 함
+// - dividendAware: 배당금 내역(ScrapedResult)에서 다음 배당 예상일을 추정하여 예상일 + grace까지 유지함 (최대 maxTtl)
+//   배당금은 새 배당이 생길 때만 바뀌므로 그 전까지는 다시 조회할 필요가 없음
+//   예상일이 이미 지났거나(곧 새 배당이 생길 수 있음) 추정할 수 없으면 기본 ttl을 사용함
+public class CacheTtlPolicy implements RedisCacheWriter.TtlFunction {
+
+    public record Settings(Duration ttl, double jitter, boolean dividendAware, Duration grace, Duration maxTtl) {
+    }
+
+    // 배당 주기가 바뀐 경우를 반영하기 위해 최근 배당 간격만 사용함
+    private static final int INTERVAL_SAMPLES = 8;
+
+    private final Settings settings;
+    private final Clock clock;
+
+    public CacheTtlPolicy(Settings settings, Clock clock) {
+        this.settings = settings;
+        this.clock = clock;
+    }
+
+    // 값과 관계없이 ttl + 지터를 사용하는 정책
+    public static CacheTtlPolicy jittered(Duration ttl, double jitter) {
+        return new CacheTtlPolicy(new Settings(ttl, jitter, false, Duration.ZERO, Duration.ZERO), Clock.systemUTC());
+    }
+
+    @Override
+    public Duration getTimeToLive(Object key, Object value) {
+        Duration ttl = this.settings.ttl();
+        if (this.settings.dividendAware() && value instanceof ScrapedResult result) {
+            LocalDateTime next = expectedNextDividend(result.getDividends());
+            LocalDateTime now = LocalDateTime.now(this.clock);
+            if (next != null && next.isAfter(now)) {
+                Duration untilNext = Duration.between(now, next.plus(this.settings.grace()));
+                ttl = untilNext.compareTo(this.settings.maxTtl()) > 0 ? this.settings.maxTtl() : untilNext;
+            }
+        }
+        return ttl.plus(this.jitter());
+    }
+
+    // 지터는 기본 ttl을 기준으로 정하여, 배당일 기준으로 늘어난 TTL에서도 예상일 이후로 크게 밀리지 않게 함
+    private Duration jitter() {
+        long bound = (long) (this.settings.ttl().toMillis() * this.settings.jitter());
+        return bound > 0 ? Duration.ofMillis(ThreadLocalRandom.current().nextLong(bound)) : Duration.ZERO;
+    }
+
+    // 마지막 배당일 + 최근 배당 간격의 중앙값, 배당이 2건 미만이면 추정하지 않음
+    static LocalDateTime expectedNextDividend(List<Dividend> dividends) {
+        if (dividends == null || dividends.size() < 2) {
+            return null;
+        }
+
+        List<LocalDateTime> dates = new ArrayList<>(dividends.size());
+        for (Dividend dividend : dividends) {
+            if (dividend.getDate() != null) {
+                dates.add(dividend.getDate());
+            }
+        }
+        Collections.sort(dates);
+        if (dates.size() < 2) {
+            return null;
+        }
+
+        List<Duration> intervals = new ArrayList<>(INTERVAL_SAMPLES);
+        for (int i = Math.max(1, dates.size() - INTERVAL_SAMPLES); i < dates.size(); i++) {
+            intervals.add(Duration.between(dates.get(i - 1), dates.get(i)));
+        }
+        Collections.sort(intervals);
+        Duration median = intervals.get(intervals.size() / 2);
+        if (median.isZero()) {
+            return null;
+        }
+        return dates.get(dates.size() - 1).plus(median);
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.demo.dividend.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+// 캐시 미스가 동시에 몰려도 같은 키의 값은 한 번만 불러오도록 조율하는 Cache 데코레이터 (@Cacheable(sync = true)에서 사용됨)
+// - 노드 내부: 같은 키를 동시에 요청하면 첫 요청만 값을 불러오고, 나머지는 그 결과를 함께 받음
+// - 클러스터: 임대를 얻은 노드만 값을 불러와 저장하고, 나머지 노드는 값이 저장되기를 기다림
+// - 임대를 가진 노드가 waitTimeout 안에 값을 저장하지 않으면 기다리던 노드가 직접 불러옴
+// - refreshAfter(soft TTL)가 지정되면, 저장된 지 refreshAfter가 지난 값은 그대로 돌려주면서 한 노드만 백그라운드로 다시 불러옴
+//   (저장 시각 대신 refreshAfter 동안 유지되는 갱신 표시를 임대로 만들고, 표시가 없어졌을 때 표시를 먼저 만든 노드가 갱신함)
+//   갱신 표시의 유지 시간에도 지터가 적용되어, 함께 저장된 키들이 같은 시각에 다시 불러와지지 않음
+//   값 자체는 Redis TTL(hard TTL)이 지나야 삭제됨
+//   갱신한 값은 refreshTarget(상위 TwoTierCache)을 통해 저장하여 L1에도 반영하고 다른 노드의 L1을 무효화함
+// get(key, valueLoader) 외의 동작은 그대로 위임함
+@Slf4j
+public class CoalescingCache implements Cache {
+
+    public record Settings(Duration leaseTtl, Duration waitTimeout, Duration pollInterval) {
+    }
+
+    private static final String FRESH_PREFIX = "fresh:";
+    private static final String FRESH_TOKEN = "1";
+
+    private final Cache delegate;
+    private final CacheLease lease;
+    private final Settings settings;
+    private final CacheTtlPolicy refreshAfter;
+    private final Executor refreshExecutor;
+    private final Map<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    // 백그라운드로 갱신한 값을 저장할 캐시, 지정되지 않으면 delegate에 바로 저장함
+    private volatile Cache refreshTarget;
+
+    public CoalescingCache(Cache delegate, CacheLease lease, Settings settings) {
+        this(delegate, lease, settings, null, null);
+    }
+
+    public CoalescingCache(Cache delegate, CacheLease lease, Settings settings,
+                           CacheTtlPolicy refreshAfter, Executor refreshExecutor) {
+        this.delegate = delegate;
+        this.lease = lease;
+        this.settings = settings;
+        this.refreshAfter = refreshAfter;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    // 이 캐시를 감싸는 상위 캐시를 지정함 (상위 캐시의 put은 다시 이 캐시의 put을 거쳐 delegate에 저장해야 함)
+    public void setRefreshTarget(Cache refreshTarget) {
+        this.refreshTarget = refreshTarget;
+    }
+
+    @Override
+    public String getName() {
+        return this.delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this.delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return this.delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return this.delegate.get(key, type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = this.delegate.get(key);
+        if (cached != null) {
+            this.refreshIfStale(key, valueLoader);
+            return (T) cached.get();
+        }
+
+        CompletableFuture<Object> loading = new CompletableFuture<>();
+        CompletableFuture<Object> existing = this.inFlight.putIfAbsent(key, loading);
+        if (existing != null) {
+            // 같은 노드에서 이미 불러오는 중이면 그 결과를 기다림
+            try {
+                return (T) existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            Object value = this.loadOnce(key, valueLoader);
+            loading.complete(value);
+            return (T) value;
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.inFlight.remove(key, loading);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        this.delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return this.delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        this.delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return this.delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        this.delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return this.delegate.invalidate();
+    }
+
+    private Object loadOnce(Object key, Callable<?> valueLoader) {
+        String leaseKey = this.getName() + "::" + key;
+        String token = UUID.randomUUID().toString();
+        long deadline = System.nanoTime() + this.settings.waitTimeout().toNanos();
+
+        while (true) {
+            if (this.tryAcquire(leaseKey, token)) {
+                try {
+                    // 임대를 얻기 전에 다른 노드가 값을 저장했을 수 있으므로 다시 확인함
+                    ValueWrapper cached = this.delegate.get(key);
+                    return cached != null ? cached.get() : this.loadAndPut(key, valueLoader);
+                } finally {
+                    this.release(leaseKey, token);
+                }
+            }
+
+            // 다른 노드가 불러오는 중이므로 값이 저장되기를 기다림
+            this.sleep(key, valueLoader);
+            ValueWrapper cached = this.delegate.get(key);
+            if (cached != null) {
+                return cached.get();
+            }
+            if (System.nanoTime() - deadline > 0) {
+                log.warn("캐시 임대를 가진 노드가 응답하지 않아 직접 불러옵니다. - key: {}", leaseKey);
+                return this.loadAndPut(key, valueLoader);
+            }
+        }
+    }
+
+    private Object loadAndPut(Object key, Callable<?> valueLoader) {
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        this.delegate.put(key, value);
+        this.markFresh(key);
+        return value;
+    }
+
+    private void refreshIfStale(Object key, Callable<?> valueLoader) {
+        if (this.refreshAfter == null || !this.markFresh(key)) {
+            return;
+        }
+        try {
+            this.refreshExecutor.execute(() -> this.refresh(key, valueLoader));
+        } catch (RejectedExecutionException e) {
+            // 갱신 작업이 밀려 있으면 이번 갱신은 건너뛰고, 다음 soft TTL 또는 hard TTL까지 이전 값을 사용함
+            log.warn("캐시 값 갱신 작업이 밀려 있어 건너뜁니다. - cache: {}, key: {}", this.getName(), key);
+        }
+    }
+
+    // 실패하면 이전 값을 그대로 두고, 다음 soft TTL이 지난 뒤 다시 시도함
+    private void refresh(Object key, Callable<?> valueLoader) {
+        try {
+            // Redis에만 저장하면 이 노드와 다른 노드의 L1이 L1 TTL이 지날 때까지 이전 값을 계속 응답함
+            Cache target = this.refreshTarget != null ? this.refreshTarget : this.delegate;
+            target.put(key, valueLoader.call());
+            log.debug("캐시 값 갱신 - cache: {}, key: {}", this.getName(), key);
+        } catch (Exception e) {
+            log.warn("캐시 값 갱신 실패, 이전 값을 계속 사용합니다. - cache: {}, key: {}", this.getName(), key, e);
+        }
+    }
+
+    // 갱신 표시를 만들고, 표시가 없던 경우(soft TTL이 지난 경우)에만 true를 돌려줌
+    // 임대 저장소(Redis)를 사용할 수 없으면 갱신하지 않음
+    private boolean markFresh(Object key) {
+        if (this.refreshAfter == null) {
+            return false;
+        }
+        try {
+            return this.lease.tryAcquire(FRESH_PREFIX + this.getName() + "::" + key, FRESH_TOKEN,
+                    this.refreshAfter.getTimeToLive(key, null));
+        } catch (RuntimeException e) {
+            log.debug("캐시 갱신 표시를 만들 수 없습니다. - cache: {}, key: {}", this.getName(), key, e);
+            return false;
+        }
+    }
+
+    // 임대 저장소(Redis)를 사용할 수 없으면 노드 내부에서만 조율하고 직접 불러옴
+    private boolean tryAcquire(String leaseKey, String token) {
+        try {
+            return this.lease.tryAcquire(leaseKey, token, this.settings.leaseTtl());
+        } catch (RuntimeException e) {
+            log.warn("캐시 임대를 얻을 수 없어 직접 불러옵니다. - key: {}", leaseKey, e);
+            return true;
+        }
+    }
+
+    // 반납에 실패해도 임대는 leaseTtl이 지나면 만료됨
+    private void release(String leaseKey, String token) {
+        try {
+            this.lease.release(leaseKey, token);
+        } catch (RuntimeException e) {
+            log.warn("캐시 임대 반납 실패 - key: {}", leaseKey, e);
+        }
+    }
+
+    private void sleep(Object key, Callable<?> valueLoader) {
+        try {
+            Thread.sleep(this.settings.pollInterval().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+}
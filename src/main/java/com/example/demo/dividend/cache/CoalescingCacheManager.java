@@ -0,0 +1,49 @@
+package com.example.demo.dividend.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+// delegate가 만든 캐시를 CoalescingCache로 감싸서 제공하는 CacheManager
+// refreshAfter에 soft TTL이 지정된 캐시는 refreshExecutor에서 값을 미리 다시 불러옴
+public class CoalescingCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final CacheLease lease;
+    private final CoalescingCache.Settings settings;
+    private final Map<String, CacheTtlPolicy> refreshAfter;
+    private final Executor refreshExecutor;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public CoalescingCacheManager(CacheManager delegate, CacheLease lease, CoalescingCache.Settings settings,
+                                  Map<String, CacheTtlPolicy> refreshAfter, Executor refreshExecutor) {
+        this.delegate = delegate;
+        this.lease = lease;
+        this.settings = settings;
+        this.refreshAfter = refreshAfter;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = this.caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = this.delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return this.caches.computeIfAbsent(name, key -> new CoalescingCache(target, this.lease, this.settings,
+                this.refreshAfter.get(key), this.refreshExecutor));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return this.delegate.getCacheNames();
+    }
+}
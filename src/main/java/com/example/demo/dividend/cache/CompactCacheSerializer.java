@@ -0,0 +1,126 @@
+package com.example.demo.dividend.cache;
+
+import com.example.demo.dividend.model.ScrapedResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+// 캐시 값을 작은 바이너리로 저장하는 RedisSerializer
+// - 첫 바이트는 포맷 번호이며, 최상위 비트가 1이면 본문이 Deflate로 압축되어 있음
+// - ScrapedResult는 ScrapedResultCodec으로, 그 외의 값은 fallback(JSON) 직렬화로 기록함
+// - 본문이 compressThreshold 바이트 이상이면 압축함
+// - 헤더가 없는 값(이전 버전에서 JSON으로 저장된 값)은 fallback으로 읽고,
+//   알 수 없는 포맷(새 버전 노드가 저장한 값)은 캐시 미스로 처리함
+@Slf4j
+public class CompactCacheSerializer implements RedisSerializer<Object> {
+
+    private static final int FORMAT_FALLBACK = 0x01;
+    private static final int FORMAT_SCRAPED_RESULT_V1 = 0x02;
+    private static final int COMPRESSED = 0x80;
+
+    private final RedisSerializer<Object> fallback;
+    private final int compressThreshold;
+
+    public CompactCacheSerializer(RedisSerializer<Object> fallback, int compressThreshold) {
+        this.fallback = fallback;
+        this.compressThreshold = compressThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) {
+        if (value == null) {
+            return this.fallback.serialize(null);
+        }
+
+        int format;
+        byte[] body;
+        if (value instanceof ScrapedResult result && ScrapedResultCodec.supports(result)) {
+            format = FORMAT_SCRAPED_RESULT_V1;
+            body = encode(result);
+        } else {
+            format = FORMAT_FALLBACK;
+            body = this.fallback.serialize(value);
+        }
+
+        if (body.length >= this.compressThreshold) {
+            format |= COMPRESSED;
+            body = deflate(body);
+        }
+
+        byte[] bytes = new byte[body.length + 1];
+        bytes[0] = (byte) format;
+        System.arraycopy(body, 0, bytes, 1, body.length);
+        return bytes;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        // JSON은 출력 가능한 문자로 시작하므로 포맷 번호(0x01~0x1F, 0x80 이상)와 겹치지 않음
+        int header = bytes[0] & 0xFF;
+        if (header >= 0x20 && header < COMPRESSED) {
+            return this.fallback.deserialize(bytes);
+        }
+
+        int format = header & ~COMPRESSED;
+        if (format != FORMAT_FALLBACK && format != FORMAT_SCRAPED_RESULT_V1) {
+            log.warn("알 수 없는 캐시 값 포맷입니다. 캐시 미스로 처리합니다. - format: {}", format);
+            return null;
+        }
+
+        try {
+            byte[] body = (header & COMPRESSED) != 0 ? inflate(bytes) : Arrays.copyOfRange(bytes, 1, bytes.length);
+            if (format == FORMAT_SCRAPED_RESULT_V1) {
+                return ScrapedResultCodec.read(new DataInputStream(new ByteArrayInputStream(body)));
+            }
+            return this.fallback.deserialize(body);
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private static byte[] encode(ScrapedResult result) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + result.getDividends().size() * 6);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            ScrapedResultCodec.write(result, out);
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값을 기록할 수 없습니다.", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    // 캐시 저장은 요청 처리 중에 일어나므로 압축률보다 속도를 우선함
+    private static byte[] deflate(byte[] body) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(body.length / 2);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream out = new DeflaterOutputStream(bytes, deflater)) {
+            out.write(body);
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값을 압축할 수 없습니다.", e);
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    // 코덱은 1바이트씩 읽으므로 압축을 먼저 모두 풀어둠 (압축 스트림에서 바로 읽으면 몇 배 느림)
+    private static byte[] inflate(byte[] bytes) throws IOException {
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1))) {
+            return in.readAllBytes();
+        }
+    }
+}
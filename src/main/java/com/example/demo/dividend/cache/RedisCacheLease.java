@@ -0,0 +1,35 @@
+package com.example.demo.dividend.cache;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+// SET NX PX로 임대를 얻고, 값이 자신의 token인 경우에만 삭제하여 반납함
+// (임대가 만료된 뒤 다른 노드가 얻은 임대를 지우지 않도록 비교와 삭제를 스크립트 하나로 처리함)
+public class RedisCacheLease implements CacheLease {
+
+    private static final String KEY_PREFIX = "lease:";
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisCacheLease(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public boolean tryAcquire(String key, String token, Duration ttl) {
+        return Boolean.TRUE.equals(this.redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + key, token, ttl));
+    }
+
+    @Override
+    public void release(String key, String token) {
+        this.redisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + key), token);
+    }
+}
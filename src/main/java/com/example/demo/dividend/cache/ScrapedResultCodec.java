@@ -0,0 +1,138 @@
+package com.example.demo.dividend.cache;
+
+import com.example.demo.dividend.model.Company;
+import com.example.demo.dividend.model.Dividend;
+import com.example.demo.dividend.model.ScrapedResult;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// finance 캐시 값(ScrapedResult)을 필드 이름이나 타입 정보 없이 정해진 순서로 기록하는 바이너리 코덱
+// - 회사: 필드마다 값 존재 여부 + 값
+// - 배당금: 건수 + (이전 배당일과의 일수 차이, 시각(나노초), 금액의 scale, 금액의 unscaled 값)
+//   일수 차이와 정수 값은 가변 길이 정수(zigzag varint)로 기록하여 배당금 한 건이 보통 4~5바이트가 됨
+// ScrapedResult/Dividend/Company의 필드가 바뀌면 CompactCacheSerializer의 포맷 번호를 올려야 함
+final class ScrapedResultCodec {
+
+    private ScrapedResultCodec() {
+    }
+
+    // 금액이 long 범위를 넘거나 값이 비어 있는 배당금이 있으면 이 코덱으로 기록하지 않음
+    static boolean supports(ScrapedResult result) {
+        if (result.getCompany() == null || result.getDividends() == null) {
+            return false;
+        }
+        for (Dividend dividend : result.getDividends()) {
+            if (dividend == null || dividend.getDate() == null || dividend.getDividend() == null
+                    || dividend.getDividend().unscaledValue().bitLength() >= Long.SIZE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static void write(ScrapedResult result, DataOutput out) throws IOException {
+        Company company = result.getCompany();
+        writeNullableLong(out, company.getId());
+        writeNullableString(out, company.getTicker());
+        writeNullableString(out, company.getName());
+
+        List<Dividend> dividends = result.getDividends();
+        writeVarLong(out, dividends.size());
+        long previousDay = 0;
+        for (Dividend dividend : dividends) {
+            LocalDateTime date = dividend.getDate();
+            long epochDay = date.toLocalDate().toEpochDay();
+            writeVarLong(out, zigzag(epochDay - previousDay));
+            writeVarLong(out, date.toLocalTime().toNanoOfDay());
+            previousDay = epochDay;
+
+            BigDecimal amount = dividend.getDividend();
+            writeVarLong(out, zigzag(amount.scale()));
+            writeVarLong(out, zigzag(amount.unscaledValue().longValueExact()));
+        }
+    }
+
+    static ScrapedResult read(DataInput in) throws IOException {
+        Long id = readNullableLong(in);
+        String ticker = readNullableString(in);
+        String name = readNullableString(in);
+
+        int size = Math.toIntExact(readVarLong(in));
+        List<Dividend> dividends = new ArrayList<>(size);
+        long epochDay = 0;
+        for (int i = 0; i < size; i++) {
+            epochDay += unzigzag(readVarLong(in));
+            LocalTime time = LocalTime.ofNanoOfDay(readVarLong(in));
+            int scale = Math.toIntExact(unzigzag(readVarLong(in)));
+            BigInteger unscaled = BigInteger.valueOf(unzigzag(readVarLong(in)));
+
+            // 저장할 때 이미 정규화된 값이므로 생성자를 거치지 않고 그대로 복원함
+            Dividend dividend = new Dividend();
+            dividend.setDate(LocalDateTime.of(LocalDate.ofEpochDay(epochDay), time));
+            dividend.setDividend(new BigDecimal(unscaled, scale));
+            dividends.add(dividend);
+        }
+        return new ScrapedResult(new Company(id, ticker, name), dividends);
+    }
+
+    private static void writeNullableLong(DataOutput out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writeVarLong(out, zigzag(value));
+        }
+    }
+
+    private static Long readNullableLong(DataInput in) throws IOException {
+        return in.readBoolean() ? unzigzag(readVarLong(in)) : null;
+    }
+
+    private static void writeNullableString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    // 7비트씩 나누어 기록하고, 뒤에 이어지는 바이트가 있으면 최상위 비트를 1로 표시함
+    private static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("잘못된 가변 길이 정수입니다.");
+    }
+
+    // 음수도 작은 절댓값이면 짧게 기록되도록 부호 비트를 최하위 비트로 옮김
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
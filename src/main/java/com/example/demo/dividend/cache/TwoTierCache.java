@@ -0,0 +1,137 @@
+package com.example.demo.dividend.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+// 프로세스 내부 캐시(L1, Caffeine)를 Redis 캐시(L2) 앞에 두는 2단계 캐시
+// - 조회: L1 -> L2 순서로 찾고, L2에서 찾은 값은 L1에 저장함
+// - 저장/삭제: L2와 L1에 반영한 뒤, 다른 노드가 가진 L1 복사본을 지우도록 무효화 메시지를 발행함
+// - L1 키는 Redis 키와 같이 문자열로 변환하여 사용함 (무효화 메시지로 전달되는 키와 비교하기 위함)
+@Slf4j
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final String nodeId;
+    private final Consumer<CacheInvalidation> publisher;
+
+    public TwoTierCache(String name, com.github.benmanes.caffeine.cache.Cache<String, Object> local, Cache remote,
+                        String nodeId, Consumer<CacheInvalidation> publisher) {
+        super(true);
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.nodeId = nodeId;
+        this.publisher = publisher;
+    }
+
+    @Override
+    public String getName() {
+        return this.name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this.local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object cached = this.local.getIfPresent(localKey(key));
+        if (cached != null) {
+            return cached;
+        }
+
+        ValueWrapper wrapper = this.remote.get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object storeValue = this.toStoreValue(wrapper.get());
+        this.local.put(localKey(key), storeValue);
+        return storeValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object cached = this.local.getIfPresent(localKey(key));
+        if (cached != null) {
+            return (T) this.fromStoreValue(cached);
+        }
+
+        // L2에서 찾지 못하면 L2가 값을 불러와 저장함
+        // 새로 불러온 값은 다른 노드의 L1에 있을 수 없으므로 무효화 메시지를 보내지 않음
+        // L2가 soft TTL이 지난 값을 돌려주면서 그 사이 백그라운드 갱신이 L1에 새 값을 저장했을 수 있으므로 덮어쓰지 않음
+        T value = this.remote.get(key, valueLoader);
+        this.local.asMap().putIfAbsent(localKey(key), this.toStoreValue(value));
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        this.remote.put(key, value);
+        this.local.put(localKey(key), this.toStoreValue(value));
+        this.publish(CacheInvalidation.evict(this.nodeId, this.name, localKey(key)));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = this.remote.putIfAbsent(key, value);
+        if (existing != null) {
+            this.local.put(localKey(key), this.toStoreValue(existing.get()));
+            return existing;
+        }
+        this.local.put(localKey(key), this.toStoreValue(value));
+        this.publish(CacheInvalidation.evict(this.nodeId, this.name, localKey(key)));
+        return null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        this.remote.evict(key);
+        this.local.invalidate(localKey(key));
+        this.publish(CacheInvalidation.evict(this.nodeId, this.name, localKey(key)));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = this.remote.evictIfPresent(key);
+        this.local.invalidate(localKey(key));
+        this.publish(CacheInvalidation.evict(this.nodeId, this.name, localKey(key)));
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        this.remote.clear();
+        this.local.invalidateAll();
+        this.publish(CacheInvalidation.clear(this.nodeId, this.name));
+    }
+
+    // 다른 노드에서 받은 무효화 메시지 처리, L2는 이미 반영되었으므로 L1만 지움
+    void invalidateLocal(CacheInvalidation invalidation) {
+        if (invalidation.isClear()) {
+            this.local.invalidateAll();
+        } else {
+            this.local.invalidate(invalidation.key());
+        }
+    }
+
+    // L2에는 이미 반영되었으므로 발행에 실패해도 예외를 전달하지 않음 (다른 노드의 L1은 TTL이 지나면 만료됨)
+    private void publish(CacheInvalidation invalidation) {
+        try {
+            this.publisher.accept(invalidation);
+        } catch (RuntimeException e) {
+            log.warn("캐시 무효화 메시지 발행 실패 - cache: {}, key: {}", this.name, invalidation.key(), e);
+        }
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.demo.dividend.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+// localCacheNames에 포함된 캐시는 TwoTierCache(L1 + Redis)로, 나머지는 Redis 캐시 그대로 제공하는 CacheManager
+// 다른 노드가 발행한 무효화 메시지를 받아 L1을 지우는 MessageListener 역할도 함
+// 트랜잭션 처리(커밋 후 반영)는 이 CacheManager에서 L1과 L2를 함께 감싸서 처리하므로, remote는 transactionAware가 아니어야 함
+@Slf4j
+public class TwoTierCacheManager extends AbstractTransactionSupportingCacheManager implements MessageListener {
+
+    public record LocalSettings(long maximumSize, Duration ttl) {
+    }
+
+    private final CacheManager remote;
+    private final Set<String> localCacheNames;
+    private final LocalSettings localSettings;
+    private final String nodeId;
+    private final Consumer<CacheInvalidation> publisher;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TwoTierCache> twoTierCaches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager remote, Set<String> localCacheNames, LocalSettings localSettings,
+                               String nodeId, Consumer<CacheInvalidation> publisher, MeterRegistry meterRegistry) {
+        this.remote = remote;
+        this.localCacheNames = localCacheNames;
+        this.localSettings = localSettings;
+        this.nodeId = nodeId;
+        this.publisher = publisher;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return List.of();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        Cache remoteCache = this.remote.getCache(name);
+        if (remoteCache == null || !this.localCacheNames.contains(name)) {
+            return remoteCache;
+        }
+        return this.twoTierCaches.computeIfAbsent(name, key -> this.createTwoTierCache(key, remoteCache));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidation invalidation;
+        try {
+            invalidation = CacheInvalidation.decode(new String(message.getBody(), StandardCharsets.UTF_8));
+        } catch (RuntimeException e) {
+            log.warn("캐시 무효화 메시지를 처리할 수 없습니다.", e);
+            return;
+        }
+
+        // 자신이 발행한 메시지는 이미 반영되었으므로 무시함
+        if (this.nodeId.equals(invalidation.origin())) {
+            return;
+        }
+        TwoTierCache cache = this.twoTierCaches.get(invalidation.cacheName());
+        if (cache != null) {
+            cache.invalidateLocal(invalidation);
+        }
+    }
+
+    // 무효화 메시지를 놓쳤을 수 있을 때 모든 L1을 비움 (L2는 그대로 둠)
+    public void clearLocal() {
+        this.twoTierCaches.values().forEach(cache -> cache.invalidateLocal(CacheInvalidation.clear(this.nodeId, cache.getName())));
+    }
+
+    private TwoTierCache createTwoTierCache(String name, Cache remoteCache) {
+        // W-TinyLFU 기반 크기 제한과 짧은 TTL로 무효화 메시지를 놓치더라도 오래된 값이 남는 시간을 제한함
+        com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                .maximumSize(this.localSettings.maximumSize())
+                .expireAfterWrite(this.localSettings.ttl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(this.meterRegistry, local, name + ".local");
+        TwoTierCache cache = new TwoTierCache(name, local, remoteCache, this.nodeId, this.publisher);
+        // 백그라운드로 갱신된 값도 put과 같이 L1에 반영하고 다른 노드에 무효화 메시지를 발행하도록 함
+        if (remoteCache instanceof CoalescingCache coalescing) {
+            coalescing.setRefreshTarget(cache);
+        }
+        return cache;
+    }
+}
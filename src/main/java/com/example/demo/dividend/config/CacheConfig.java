@@ -1,20 +1,42 @@
 package com.example.demo.dividend.config;
 
+import com.example.demo.dividend.cache.CacheInvalidationSubscriber;
+import com.example.demo.dividend.cache.CacheTtlPolicy;
+import com.example.demo.dividend.cache.CoalescingCache;
+import com.example.demo.dividend.cache.CoalescingCacheManager;
+import com.example.demo.dividend.cache.CompactCacheSerializer;
+import com.example.demo.dividend.cache.RedisCacheLease;
+import com.example.demo.dividend.cache.TwoTierCacheManager;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.CacheManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 // @RequiredArgsConstructor는 final 필드나 @NonNull 필드에 대해 생성자를 자동으로 생성하기 위해 사용됨
 @RequiredArgsConstructor
@@ -47,22 +69,180 @@ public class CacheConfig {
         return new LettuceConnectionFactory(conf);
     }
 
-    // RedisCacheManager 빈을 생성하여 Redis를 캐시로 사용하는 설정을 관리함
+    // 로컬(L1) 캐시 사용 여부, 사용하지 않으면 모든 캐시를 Redis로만 처리함
+    @Value("${cache.local.enabled:true}")
+    private boolean localEnabled;
+
+    // L1 캐시를 앞에 둘 캐시 이름 목록
+    @Value("${cache.local.cache-names:finance}")
+    private Set<String> localCacheNames;
+
+    @Value("${cache.local.maximum-size:1000}")
+    private long localMaximumSize;
+
+    // 무효화 메시지를 놓친 노드의 L1에 오래된 값이 남아 있을 수 있는 최대 시간 (Redis TTL과는 무관하게 짧게 둠)
+    @Value("${cache.local.ttl-seconds:30}")
+    private long localTtlSeconds;
+
+    @Value("${cache.local.invalidation-channel:cache:invalidation}")
+    private String invalidationChannel;
+
+    // 캐시 미스 시 값을 불러올 노드를 정하는 임대의 만료 시간 (임대를 가진 노드가 죽어도 이 시간이 지나면 풀림)
+    @Value("${cache.stampede.lease-ms:10000}")
+    private long leaseMs;
+
+    // 다른 노드가 값을 불러오기를 기다리는 최대 시간, 지나면 직접 불러옴
+    @Value("${cache.stampede.wait-ms:5000}")
+    private long leaseWaitMs;
+
+    @Value("${cache.stampede.poll-ms:50}")
+    private long leasePollMs;
+
+    // 캐시 값 직렬화 방식: compact(바이너리 + 압축) 또는 json
+    @Value("${cache.serializer.format:compact}")
+    private String serializerFormat;
+
+    // 이 크기(바이트) 이상인 캐시 값은 Deflate로 압축하여 저장함 (compact에서만 사용)
+    @Value("${cache.serializer.compress-threshold-bytes:1024}")
+    private int compressThresholdBytes;
+
+    // 저장된 지 soft TTL이 지난 값은 그대로 응답하면서 백그라운드로 다시 불러오는 캐시 이름 목록
+    @Value("${cache.refresh.cache-names:finance}")
+    private Set<String> refreshCacheNames;
+
+    @Value("${cache.refresh.soft-ttl-seconds:180}")
+    private long refreshSoftTtlSeconds;
+
+    // soft TTL에 더할 무작위 시간의 최대 비율, 함께 불러온 키들이 soft TTL마다 한꺼번에 다시 불러와지는 것을 막음
+    @Value("${cache.refresh.jitter:${cache.ttl.jitter:0.1}}")
+    private double refreshJitter;
+
+    @Value("${cache.refresh.pool-size:2}")
+    private int refreshPoolSize;
+
+    @Value("${cache.refresh.queue-capacity:100}")
+    private int refreshQueueCapacity;
+
+    // 캐시별 설정(cache.ttl.<이름>.*)이 없을 때 사용하는 TTL
+    @Value("${cache.ttl.default-seconds:180}")
+    private long defaultTtlSeconds;
+
+    // TTL에 더할 무작위 시간의 최대 비율, 함께 저장된 항목들이 한꺼번에 만료되어 DB 조회가 몰리는 것을 막음
+    @Value("${cache.ttl.jitter:0.1}")
+    private double defaultTtlJitter;
+
+    // TTL을 따로 설정할 수 있는 캐시 이름 목록
+    @Value("${cache.ttl.cache-names:finance,company}")
+    private Set<String> ttlCacheNames;
+
+    // 캐시별 TTL 설정(cache.ttl.<이름>.*)을 읽기 위해 사용함
+    private final Environment environment;
+
+    // 무효화 메시지를 보낸 노드를 구분하기 위한 값 (자신이 보낸 메시지는 무시함)
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 캐시 값을 백그라운드로 다시 불러오는 스레드 풀
+    // 갱신 작업이 밀리면 큐가 가득 찬 뒤의 갱신은 건너뛰고 이전 값을 계속 사용함
+    private ThreadPoolExecutor refreshExecutor;
+
+    // Redis 캐시(L2) 앞에 로컬 캐시(L1)를 두는 CacheManager 빈을 생성함
     @Bean
-    public CacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory) {
+    public TwoTierCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory, MeterRegistry meterRegistry) {
         // RedisCacheConfiguration을 기본 설정으로 초기화함
         RedisCacheConfiguration conf = RedisCacheConfiguration.defaultCacheConfig()
             // 캐시 키를 StringRedisSerializer를 사용하여 문자열로 직렬화함
             .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-            // 캐시 값을 GenericJackson2JsonRedisSerializer를 사용하여 JSON 형식으로 직렬화함
-            .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()))
-            // 캐시 항목의 기본 TTL(Time-to-Live)을 3분으로 설정함
-            .entryTtl(Duration.ofMinutes(3));
+            // 캐시 값을 설정한 방식(compact 또는 JSON)으로 직렬화함
+            .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(this.valueSerializer()))
+            // 캐시 항목의 기본 TTL(Time-to-Live)을 3분(+ 지터)으로 설정함
+            .entryTtl(this.defaultTtlPolicy());
 
         // RedisCacheManager를 생성하여 RedisConnectionFactory와 캐시 설정을 적용함
-        return RedisCacheManager.builder(redisConnectionFactory)
-            .cacheDefaults(conf) // 기본 캐시 설정을 적용
-            .build(); // CacheManager 객체를 반환
+        // (트랜잭션 처리는 L1과 함께 TwoTierCacheManager에서 하므로 여기서는 transactionAware를 사용하지 않음)
+        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(redisConnectionFactory)
+            .cacheDefaults(conf); // 기본 캐시 설정을 적용
+        // 캐시마다 TTL 정책을 따로 적용함
+        for (String name : this.ttlCacheNames) {
+            builder.withCacheConfiguration(name, conf.entryTtl(this.ttlPolicy(name)));
+        }
+        // 백그라운드로 갱신하는 캐시는 Redis TTL(hard TTL)이 지나기 전이라도 soft TTL(+ 지터)마다 값을 다시 불러옴
+        Map<String, CacheTtlPolicy> refreshAfter = new HashMap<>();
+        for (String name : this.refreshCacheNames) {
+            refreshAfter.put(name, CacheTtlPolicy.jittered(Duration.ofSeconds(this.refreshSoftTtlSeconds), this.refreshJitter));
+        }
+        RedisCacheManager redisCacheManager = builder.build();
+        redisCacheManager.initializeCaches();
+
+        this.refreshExecutor = new ThreadPoolExecutor(this.refreshPoolSize, this.refreshPoolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(this.refreshQueueCapacity), new CustomizableThreadFactory("cache-refresh-"));
+
+        // 캐시 미스가 몰려도 키마다 한 노드, 한 요청만 값을 불러오도록 Redis 임대로 조율함 (@Cacheable(sync = true))
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(redisConnectionFactory);
+        CoalescingCacheManager coalescingCacheManager = new CoalescingCacheManager(
+            redisCacheManager,
+            new RedisCacheLease(redisTemplate),
+            new CoalescingCache.Settings(Duration.ofMillis(this.leaseMs), Duration.ofMillis(this.leaseWaitMs),
+                Duration.ofMillis(this.leasePollMs)),
+            refreshAfter,
+            this.refreshExecutor);
+
+        // 캐시 삭제/저장 시 다른 노드의 L1을 지우도록 Redis 채널로 무효화 메시지를 발행함
+        TwoTierCacheManager cacheManager = new TwoTierCacheManager(
+            coalescingCacheManager,
+            this.localEnabled ? this.localCacheNames : Set.of(),
+            new TwoTierCacheManager.LocalSettings(this.localMaximumSize, Duration.ofSeconds(this.localTtlSeconds)),
+            this.nodeId,
+            invalidation -> redisTemplate.convertAndSend(this.invalidationChannel, invalidation.encode()),
+            meterRegistry);
+        cacheManager.setTransactionAware(true); // 트랜잭션 안에서의 캐시 삭제/저장은 커밋된 후에 반영
+        return cacheManager;
+    }
+
+    @PreDestroy
+    public void shutdownRefreshExecutor() {
+        if (this.refreshExecutor != null) {
+            this.refreshExecutor.shutdownNow();
+        }
+    }
+
+    // 캐시별 설정이 없는 캐시에 적용하는 TTL 정책 (기본 TTL + 지터)
+    private CacheTtlPolicy defaultTtlPolicy() {
+        return CacheTtlPolicy.jittered(Duration.ofSeconds(this.defaultTtlSeconds), this.defaultTtlJitter);
+    }
+
+    // cache.ttl.<이름>.seconds / jitter / dividend-aware / grace-hours / max-days 로 캐시별 TTL 정책을 만듦
+    private CacheTtlPolicy ttlPolicy(String name) {
+        String prefix = "cache.ttl." + name + ".";
+        long seconds = this.environment.getProperty(prefix + "seconds", Long.class, this.defaultTtlSeconds);
+        double jitter = this.environment.getProperty(prefix + "jitter", Double.class, this.defaultTtlJitter);
+        boolean dividendAware = this.environment.getProperty(prefix + "dividend-aware", Boolean.class, false);
+        long graceHours = this.environment.getProperty(prefix + "grace-hours", Long.class, 24L);
+        long maxDays = this.environment.getProperty(prefix + "max-days", Long.class, 120L);
+
+        return new CacheTtlPolicy(
+            new CacheTtlPolicy.Settings(Duration.ofSeconds(seconds), jitter, dividendAware,
+                Duration.ofHours(graceHours), Duration.ofDays(maxDays)),
+            Clock.systemUTC()); // 배당일은 UTC 기준으로 저장됨
+    }
+
+    // compact는 ScrapedResult를 필드 이름/타입 정보 없는 바이너리로 기록하고, 그 외의 값은 JSON으로 기록함
+    // compact는 기존에 JSON으로 저장된 값도 읽을 수 있으므로 json -> compact로는 배포 중에 바로 바꿀 수 있음
+    private RedisSerializer<Object> valueSerializer() {
+        // 배당일(LocalDateTime)을 기록할 수 있도록 JavaTimeModule을 등록함
+        GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer()
+            .configure(objectMapper -> objectMapper.registerModule(new JavaTimeModule()));
+        if ("json".equalsIgnoreCase(this.serializerFormat)) {
+            return json;
+        }
+        return new CompactCacheSerializer(json, this.compressThresholdBytes);
+    }
+
+    // 다른 노드가 발행한 무효화 메시지를 구독하여 L1 캐시를 지움
+    @Bean
+    @ConditionalOnProperty(name = "cache.local.enabled", havingValue = "true", matchIfMissing = true)
+    public CacheInvalidationSubscriber cacheInvalidationSubscriber(RedisConnectionFactory redisConnectionFactory,
+                                                                   TwoTierCacheManager cacheManager) {
+        return new CacheInvalidationSubscriber(redisConnectionFactory, cacheManager, this.invalidationChannel);
     }
 }
 
@@ -71,7 +251,7 @@ public class CacheConfig {
 
 1. @RequiredArgsConstructor
    클래스의 final 필드에 대해 생성자를 자동으로 생성하기 위해 사용됨.
-   현재는 final 필드가 존재하지 않지만, 추가될 가능성을 대비하여 작성됨.
+   캐시별 TTL 설정을 읽기 위한 Environment를 생성자로 주입받음.
 
 2. RedisConnectionFactory
    Redis 서버와의 연결을 생성하고 관리하기 위해 사용됨.
@@ -79,17 +259,45 @@ public class CacheConfig {
 
 3. RedisCacheManager
    Spring의 CacheManager 구현체로, Redis를 캐시로 사용하기 위한 설정을 정의함.
-   캐시 데이터의 직렬화 방식을 설정하기 위해 StringRedisSerializer와 GenericJackson2JsonRedisSerializer를 사용함.
-   TTL(entryTtl)을 3분으로 설정하여 오래된 데이터를 자동으로 제거하도록 구성함.
+   캐시 데이터의 직렬화 방식을 설정하기 위해 StringRedisSerializer와 CompactCacheSerializer(또는 JSON)를 사용함.
+   TTL(entryTtl)은 CacheTtlPolicy로 캐시마다 따로 정함 (cache.ttl.<이름>.*, 기본 3분).
+   모든 TTL에 무작위 지터를 더하여, 함께 저장된 항목들이 같은 시각에 만료되면서 DB 조회가 주기적으로 몰리는 것을 막음.
+   finance 캐시는 hard TTL(24시간)을 기본으로 하고, 배당금 내역에서 추정한 다음 배당 예상일 직후까지 유지함
+   (배당금은 새 배당이 생길 때만 바뀌므로 그 전까지는 다시 조회할 필요가 없음, 5번 참고).
+
+4. TwoTierCacheManager (L1 + Redis)
+   자주 조회되는 finance 캐시는 Redis 앞에 프로세스 내부 캐시(Caffeine)를 두어,
+   같은 회사를 반복 조회할 때 Redis 왕복과 JSON 역직렬화 없이 바로 응답함.
+   캐시를 삭제/저장하면 Redis 채널(cache:invalidation)로 무효화 메시지를 발행하고,
+   다른 노드는 CacheInvalidationSubscriber로 메시지를 받아 자신의 L1 복사본을 지움.
+   구독은 주기적으로 시도하므로 Redis에 연결할 수 없어도 애플리케이션은 시작되며, 구독이 시작될 때 L1을 비움.
+   메시지를 놓치는 경우에도 L1 TTL(30초)이 지나면 Redis의 값으로 다시 채워짐.
+   transactionAware로 설정하여 트랜잭션 안에서 캐시를 삭제해도 커밋된 후에 L1과 Redis에서 함께 삭제되도록 함.
+   (커밋 전에 삭제하면 그 사이에 다른 요청이 아직 지워지지 않은 데이터를 다시 캐시할 수 있음)
+
+5. CoalescingCacheManager (캐시 스탬피드 방지)
+   인기 있는 항목이 만료되면 동시에 들어온 요청이 모두 DB를 조회하게 됨.
+   @Cacheable(sync = true)로 조회하면 같은 키는 노드 안에서 한 요청만 값을 불러오고 나머지는 결과를 기다림.
+   노드 사이에서는 Redis 임대(SET NX PX)를 얻은 노드만 값을 불러오고, 나머지 노드는 Redis에 값이 저장되기를 기다림.
+   임대에는 만료 시간이 있어 값을 불러오던 노드가 죽어도 다른 노드가 이어서 불러올 수 있음.
+   또한 finance 캐시는 저장된 지 soft TTL(3분)이 지난 값을 그대로 응답하면서 한 노드만 백그라운드로 다시 불러옴(stale-while-revalidate).
+   soft TTL에도 hard TTL과 같은 지터를 더하여, 함께 불러온 키들이 3분마다 한꺼번에 DB를 다시 조회하지 않게 함.
+   배당금 갱신 작업은 실제로 저장/변경된 배당금이 있을 때만 finance 캐시를 삭제하므로, 배당 예상일 기준 TTL이 매일 초기화되지 않음.
+   값은 Redis TTL(hard TTL)이 지나야 삭제되므로, 자주 조회되는 회사는 DB 조회를 기다리는 일이 거의 없음.
 
-4. 직렬화 설정
+6. 직렬화 설정
    StringRedisSerializer는 캐시 키를 문자열로 저장하기 위해 사용됨.
-   GenericJackson2JsonRedisSerializer는 객체를 JSON 형식으로 변환하여 캐시 값으로 저장하기 위해 사용됨.
+   GenericJackson2JsonRedisSerializer는 모든 값에 @class 타입 정보와 필드 이름을 함께 기록하므로,
+   배당금 내역이 긴 ScrapedResult는 크기가 커지고 읽는 데 시간이 오래 걸림.
+   CompactCacheSerializer는 ScrapedResult를 필드 순서가 정해진 바이너리로 기록하고(배당금 한 건에 4~5바이트),
+   일정 크기 이상이면 Deflate로 압축하여 Redis 메모리와 네트워크 사용량을 줄임.
+   그 외의 값은 JSON으로 기록하며, cache.serializer.format=json으로 기존 방식을 사용할 수 있음.
 
 ---
 
 ### 코드의 목적
 이 클래스는 Redis를 기반으로 캐시를 설정하기 위한 구성 클래스임.
 Redis 서버 연결을 구성하고 Spring CacheManager를 활용하여 캐시 데이터의 직렬화와 만료 정책을 설정함.
+자주 조회되는 캐시는 로컬 캐시를 앞에 두고, 노드 간 무효화 메시지로 로컬 캐시의 일관성을 유지함.
 이를 통해 Redis를 효율적으로 활용하여 애플리케이션 성능을 최적화하고 데이터의 유효성을 관리함.
  */
@@ -0,0 +1,302 @@
+package com.example.demo.dividend.config;
+
+import com.example.demo.dividend.scraper.AdaptiveRateLimitInterceptor;
+import com.example.demo.dividend.scraper.CircuitBreaker;
+import com.example.demo.dividend.scraper.HedgedRequests;
+import com.example.demo.dividend.scraper.HostRateLimiter;
+import com.example.demo.dividend.scraper.RecordingInterceptor;
+import com.example.demo.dividend.scraper.ReplayScraper;
+import com.example.demo.dividend.scraper.ResilientScraper;
+import com.example.demo.dividend.scraper.RetryBudget;
+import com.example.demo.dividend.scraper.RevalidatingCacheInterceptor;
+import com.example.demo.dividend.scraper.ScrapCorpus;
+import com.example.demo.dividend.scraper.Scraper;
+import lombok.extern.slf4j.Slf4j;
+import io.micrometer.core.instrument.MeterRegistry;
+import okhttp3.Cache;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 스크래퍼가 사용하는 HTTP 클라이언트 설정을 정의하는 구성 클래스
+@Slf4j
+@Configuration
+public class ScraperConfig {
+
+    // 스크래퍼 동작 방식: live(실제 호출), record(실제 호출 + 응답 녹화), replay(녹화된 응답으로 재생)
+    @Value("${scraper.mode:live}")
+    private String mode;
+
+    // 녹화한 응답을 저장하고 재생할 때 읽어오는 디렉터리
+    @Value("${scraper.corpus.directory:scraper-corpus}")
+    private String corpusDirectory;
+
+    // 재생 시 호출마다 더할 지연 시간(ms)과 무작위로 추가할 최대 지연 시간(ms)
+    @Value("${scraper.replay.latency-ms:0}")
+    private long replayLatencyMs;
+
+    @Value("${scraper.replay.jitter-ms:0}")
+    private long replayJitterMs;
+
+    // 서버 연결 수립까지 기다리는 최대 시간(ms)
+    @Value("${scraper.http.connect-timeout-ms:5000}")
+    private long connectTimeoutMs;
+
+    // 응답 데이터를 읽을 때 기다리는 최대 시간(ms)
+    @Value("${scraper.http.read-timeout-ms:10000}")
+    private long readTimeoutMs;
+
+    // 커넥션 풀에 유지할 유휴 커넥션의 최대 개수
+    @Value("${scraper.http.max-idle-connections:16}")
+    private int maxIdleConnections;
+
+    // 유휴 커넥션을 풀에 유지하는 시간(ms)
+    @Value("${scraper.http.keep-alive-ms:300000}")
+    private long keepAliveMs;
+
+    // 비동기 호출(헤지 요청)에서 호스트별로 동시에 보낼 수 있는 최대 요청 수
+    @Value("${scraper.http.max-requests-per-host:64}")
+    private int maxRequestsPerHost;
+
+    // 요청마다 설정할 User-Agent 헤더 값
+    @Value("${scraper.http.user-agent:Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0 Safari/537.36}")
+    private String userAgent;
+
+    // 응답을 디스크에 캐시할지 여부
+    @Value("${scraper.cache.enabled:true}")
+    private boolean cacheEnabled;
+
+    // 응답 캐시를 저장할 디렉터리
+    @Value("${scraper.cache.directory:${java.io.tmpdir}/dividend-scraper-cache}")
+    private String cacheDirectory;
+
+    // 응답 캐시의 최대 크기(MB), 초과 시 가장 오래 사용하지 않은 응답부터 제거됨
+    @Value("${scraper.cache.max-size-mb:200}")
+    private long cacheMaxSizeMb;
+
+    // 재검증 없이 로컬 사본을 사용할 시간(초), 0이면 매번 조건부 요청으로 재검증함
+    @Value("${scraper.cache.max-age-seconds:0}")
+    private int cacheMaxAgeSeconds;
+
+    // 호스트별 요청 속도/동시성 제한 사용 여부
+    @Value("${scraper.ratelimit.enabled:true}")
+    private boolean rateLimitEnabled;
+
+    // 호스트별 초당 요청 수(토큰 충전 속도)
+    @Value("${scraper.ratelimit.permits-per-second:5}")
+    private double permitsPerSecond;
+
+    // 한 번에 몰아서 보낼 수 있는 최대 요청 수(버킷 크기)
+    @Value("${scraper.ratelimit.burst:10}")
+    private double burst;
+
+    // 호스트별 동시 요청 수 제한의 시작값, 최소값, 최대값
+    @Value("${scraper.ratelimit.initial-concurrency:4}")
+    private int initialConcurrency;
+
+    @Value("${scraper.ratelimit.min-concurrency:1}")
+    private int minConcurrency;
+
+    @Value("${scraper.ratelimit.max-concurrency:32}")
+    private int maxConcurrency;
+
+    // 429/5xx 응답이나 지연 증가가 감지되었을 때 동시성 제한에 곱할 비율
+    @Value("${scraper.ratelimit.backoff-ratio:0.5}")
+    private double backoffRatio;
+
+    // 평균 지연 시간이 기준 지연 시간의 몇 배를 넘으면 혼잡으로 판단할지 결정함
+    @Value("${scraper.ratelimit.latency-tolerance:2.0}")
+    private double latencyTolerance;
+
+    // 응답이 늦을 때 대체 호스트로 추가 요청(hedged request)을 보낼지 여부
+    @Value("${scraper.hedge.enabled:true}")
+    private boolean hedgeEnabled;
+
+    // 추가 요청을 보낼 대체 호스트
+    @Value("${scraper.hedge.alternate-host:query1.finance.yahoo.com}")
+    private String hedgeAlternateHost;
+
+    // 추가 요청을 보내기 전 최소 대기 시간(ms), 지연 시간 표본이 충분히 모이기 전에는 이 값을 사용함
+    @Value("${scraper.hedge.min-delay-ms:300}")
+    private long hedgeMinDelayMs;
+
+    // 추가 요청 대기 시간으로 사용할 최근 응답 지연 시간의 백분위수
+    @Value("${scraper.hedge.percentile:0.95}")
+    private double hedgePercentile;
+
+    // 요청 대비 허용할 추가 요청 비율과, 요청이 적을 때도 허용할 초당 추가 요청 수
+    @Value("${scraper.hedge.budget-ratio:0.05}")
+    private double hedgeBudgetRatio;
+
+    @Value("${scraper.hedge.budget-min-per-second:0.2}")
+    private double hedgeBudgetMinPerSecond;
+
+    // 실패율을 계산할 최근 호출 수와, 서킷을 열기 위해 필요한 최소 호출 수
+    @Value("${scraper.circuit.window-size:20}")
+    private int circuitWindowSize;
+
+    @Value("${scraper.circuit.minimum-calls:10}")
+    private int circuitMinimumCalls;
+
+    // 서킷을 열 실패율 (0~1)
+    @Value("${scraper.circuit.failure-rate-threshold:0.5}")
+    private double circuitFailureRateThreshold;
+
+    // 서킷이 열린 뒤 시험 호출을 보내기까지 기다리는 시간(ms)
+    @Value("${scraper.circuit.open-duration-ms:30000}")
+    private long circuitOpenDurationMs;
+
+    // HALF_OPEN 상태에서 서킷을 닫기 위해 성공해야 하는 시험 호출 수
+    @Value("${scraper.circuit.half-open-probes:3}")
+    private int circuitHalfOpenProbes;
+
+    // 첫 호출을 포함한 최대 시도 횟수
+    @Value("${scraper.retry.max-attempts:3}")
+    private int retryMaxAttempts;
+
+    // 재시도 대기 시간의 기준값과 최대값(ms)
+    @Value("${scraper.retry.base-delay-ms:200}")
+    private long retryBaseDelayMs;
+
+    @Value("${scraper.retry.max-delay-ms:2000}")
+    private long retryMaxDelayMs;
+
+    // 요청 대비 허용할 재시도 비율과, 요청이 적을 때도 허용할 초당 재시도 수
+    @Value("${scraper.retry.budget-ratio:0.1}")
+    private double retryBudgetRatio;
+
+    @Value("${scraper.retry.budget-min-per-second:1}")
+    private double retryBudgetMinPerSecond;
+
+    // 모든 스크래핑 요청이 공유하는 OkHttpClient 빈을 생성함
+    @Bean
+    public OkHttpClient scraperHttpClient(MeterRegistry meterRegistry, HedgedRequests hedgedRequests) {
+        OkHttpClient.Builder builder = new OkHttpClient.Builder();
+        if (this.rateLimitEnabled) {
+            // 네트워크로 나가는 요청만 호스트별 토큰 버킷과 AIMD 동시성 제한을 적용함
+            builder.addNetworkInterceptor(new AdaptiveRateLimitInterceptor(new HostRateLimiter.Settings(
+                this.permitsPerSecond, this.burst, this.initialConcurrency, this.minConcurrency,
+                this.maxConcurrency, this.backoffRatio, this.latencyTolerance), meterRegistry));
+        }
+        // 헤지 요청의 대기 시간은 속도 제한기를 통과한 뒤부터 재도록 속도 제한 인터셉터 다음에 등록함
+        builder.addNetworkInterceptor(hedgedRequests.admissionInterceptor());
+        if ("record".equals(this.mode)) {
+            // 디스크 캐시에서 응답한 경우도 녹화하도록 애플리케이션 인터셉터로 등록함
+            builder.addInterceptor(new RecordingInterceptor(new ScrapCorpus(Path.of(this.corpusDirectory))));
+        }
+        if (this.cacheEnabled) {
+            // 응답 본문과 검증자(ETag/Last-Modified)를 디스크에 저장하고 조건부 GET으로 재검증함
+            builder.cache(new Cache(new File(this.cacheDirectory), this.cacheMaxSizeMb * 1024 * 1024))
+                .addNetworkInterceptor(new RevalidatingCacheInterceptor(this.cacheMaxAgeSeconds));
+        }
+
+        // 비동기 호출의 기본 호스트별 동시 요청 수(5)는 속도 제한기의 동시성 제한보다 작으므로 늘려줌
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequestsPerHost(this.maxRequestsPerHost);
+        dispatcher.setMaxRequests(Math.max(dispatcher.getMaxRequests(), this.maxRequestsPerHost * 2));
+
+        return builder
+            .dispatcher(dispatcher)
+            // 같은 호스트로의 요청이 TCP/TLS 연결을 재사용하도록 커넥션 풀을 설정함
+            .connectionPool(new ConnectionPool(this.maxIdleConnections, this.keepAliveMs, TimeUnit.MILLISECONDS))
+            // 서버가 지원하면 HTTP/2로 하나의 연결에서 여러 요청을 다중화함
+            .protocols(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1))
+            .connectTimeout(this.connectTimeoutMs, TimeUnit.MILLISECONDS)
+            .readTimeout(this.readTimeoutMs, TimeUnit.MILLISECONDS)
+            .retryOnConnectionFailure(true)
+            // 브라우저가 아닌 클라이언트를 차단하는 경우가 있어 User-Agent를 지정함
+            .addInterceptor(chain -> chain.proceed(chain.request().newBuilder()
+                .header("User-Agent", this.userAgent)
+                .build()))
+            .build();
+    }
+
+    // 업스트림 장애 시 요청이 쌓이지 않도록 YahooFinanceScraper를 서킷 브레이커와 재시도 예산으로 감쌈
+    @Bean
+    public Scraper resilientScraper(@Qualifier("yahooFinanceScraper") Scraper yahooFinanceScraper, MeterRegistry meterRegistry) {
+        Scraper delegate = yahooFinanceScraper;
+        if ("replay".equals(this.mode)) {
+            // 재생 모드에서도 서킷 브레이커, single-flight 등 나머지 처리 과정은 그대로 거치도록 원본 스크래퍼만 바꿈
+            log.info("scraper replay mode -> corpus: {}, latency: {}ms (+{}ms)",
+                this.corpusDirectory, this.replayLatencyMs, this.replayJitterMs);
+            delegate = new ReplayScraper(new ScrapCorpus(Path.of(this.corpusDirectory)), this.replayLatencyMs, this.replayJitterMs);
+        }
+        CircuitBreaker circuitBreaker = new CircuitBreaker(new CircuitBreaker.Settings(
+            this.circuitWindowSize, this.circuitMinimumCalls, this.circuitFailureRateThreshold,
+            this.circuitOpenDurationMs, this.circuitHalfOpenProbes));
+        // 예산 최대치는 초당 허용 재시도 수의 10배로 두어 짧은 장애에서만 몰아서 재시도할 수 있게 함
+        RetryBudget retryBudget = new RetryBudget(
+            this.retryBudgetRatio, this.retryBudgetMinPerSecond, Math.max(1, this.retryBudgetMinPerSecond * 10));
+        return new ResilientScraper(delegate, circuitBreaker, retryBudget, new ResilientScraper.RetrySettings(
+            this.retryMaxAttempts, this.retryBaseDelayMs, this.retryMaxDelayMs), meterRegistry);
+    }
+
+    // 차트 API 요청의 꼬리 지연 시간을 줄이기 위한 헤지 요청 설정
+    @Bean
+    public HedgedRequests scraperHedgedRequests(MeterRegistry meterRegistry) {
+        return new HedgedRequests(new HedgedRequests.Settings(
+            this.hedgeEnabled, this.hedgeAlternateHost, this.hedgeMinDelayMs, this.hedgePercentile,
+            this.hedgeBudgetRatio, this.hedgeBudgetMinPerSecond), meterRegistry);
+    }
+}
+
+/*
+### 주요 동작과 이유
+
+1. ConnectionPool
+   요청마다 새로운 연결을 여는 대신 keep-alive 연결을 재사용하여 TLS 핸드셰이크 비용을 줄이기 위해 사용됨.
+   대량 갱신 시 티커마다 반복되던 연결 수립 시간이 사라짐.
+
+2. HTTP/2
+   ALPN으로 협상이 되면 하나의 연결에서 여러 요청을 동시에 처리함.
+   서버가 지원하지 않으면 HTTP/1.1로 동작함.
+
+3. gzip
+   OkHttp는 Accept-Encoding 헤더가 없으면 gzip을 요청하고 응답을 자동으로 해제하므로 별도 설정이 필요 없음.
+
+4. 타임아웃
+   scraper.http.* 설정으로 연결/읽기 타임아웃을 조정할 수 있도록 함.
+
+5. 디스크 응답 캐시
+   OkHttp Cache는 응답 본문과 ETag/Last-Modified를 디스크에 저장하고, 최대 크기를 넘으면 LRU 방식으로 제거함.
+   Yahoo 응답은 저장 불가 헤더를 보내므로 RevalidatingCacheInterceptor로 헤더를 재작성하여 조건부 GET으로 재검증하게 함.
+   캐시는 노드별 로컬 디렉터리에 저장되며 scraper.cache.* 설정으로 조정함.
+
+6. 요청 속도 제한
+   AdaptiveRateLimitInterceptor가 호스트별로 토큰 버킷과 AIMD 동시성 제한을 적용함.
+   429/5xx 응답이나 지연 증가 시 동시성 제한을 줄이고, 정상 응답이 이어지면 다시 늘려 지속 가능한 최대 처리량을 찾음.
+   현재 제한값과 제한 발생 횟수는 scraper.ratelimit.* 지표로 노출됨.
+
+7. 헤지 요청
+   차트 API는 query1/query2 두 호스트에서 같은 응답을 제공함.
+   첫 요청이 최근 p95 지연 시간(최소 scraper.hedge.min-delay-ms) 안에 끝나지 않으면 대체 호스트로 한 번 더 요청하고 먼저 성공한 응답을 사용함.
+   대기 시간은 첫 요청이 속도 제한기를 통과한 뒤부터 재므로, 제한기에서 기다리는 요청은 대체 호스트로 다시 보내지 않음.
+   (대체 호스트는 제한이 따로 적용되므로, 그렇지 않으면 대량 갱신 중에 제한을 우회하여 요청이 두 배로 늘어남)
+   추가 요청은 전체 요청의 scraper.hedge.budget-ratio 비율까지만 보내고, 예산이 없으면 첫 요청의 응답을 기다림.
+   추가 요청 비율과 추가 요청이 이긴 횟수는 scraper.hedge.sent / scraper.hedge.wins / scraper.hedge.skipped 지표를 scraper.hedge.calls와 비교하여 확인함.
+
+8. 서킷 브레이커와 재시도 예산
+   최근 호출의 실패율이 기준을 넘으면 서킷을 열어 업스트림을 호출하지 않고 503으로 즉시 응답하여 요청 스레드가 타임아웃을 기다리며 쌓이지 않게 함.
+   일정 시간 뒤 일부 호출만 시험 삼아 보내고(half-open) 성공하면 다시 닫음.
+   재시도는 지터가 적용된 지수 백오프를 사용하고, 전체 요청 대비 비율(scraper.retry.budget-ratio)로 제한하여 장애 시 재시도로 부하가 늘어나지 않게 함.
+
+9. 녹화/재생
+   scraper.mode=record 이면 quote 페이지와 전체 기간 차트 응답을 티커별 gzip 파일로 scraper.corpus.directory에 저장함.
+   scraper.mode=replay 이면 YahooFinanceScraper 대신 ReplayScraper가 코퍼스로 응답하며, scraper.replay.* 지연 시간을 더해 네트워크 없이도 같은 조건으로 수집 과정을 벤치마크/부하 테스트할 수 있음.
+
+---
+
+### 코드의 목적
+이 클래스는 YahooFinanceScraper가 공유하는 HTTP 클라이언트를 구성하기 위한 설정 클래스임.
+연결 재사용과 압축 전송을 통해 티커당 스크래핑 지연 시간을 줄이는 것을 목표로 함.
+ */
@@ -1,6 +1,7 @@
 package com.example.demo.dividend.controller;
 
 import com.example.demo.dividend.model.Company;
+import com.example.demo.dividend.model.CursorPage;
 import com.example.demo.dividend.persist.entity.CompanyEntity;
 import com.example.demo.dividend.service.CompanyService;
 import lombok.RequiredArgsConstructor;
@@ -37,6 +38,17 @@ public class CompanyController {
         return ResponseEntity.ok(companies);
     }
 
+    // 회사 목록을 커서 기반으로 조회하는 메서드 (cursor 파라미터가 있을 때, 첫 페이지는 빈 값으로 요청)
+    @GetMapping(params = "cursor") // "/company?cursor=" 형태의 GET 요청을 처리
+    @PreAuthorize("hasRole('READ')") // READ 권한이 있는 사용자만 접근 가능
+    public ResponseEntity<?> searchCompanyByCursor(@RequestParam String cursor,
+                                                   @RequestParam(defaultValue = "20") int size,
+                                                   @RequestParam(defaultValue = "id") String sort) {
+        // 마지막으로 받은 위치 이후의 회사 목록과 다음 페이지 커서를 반환
+        CursorPage<CompanyEntity> companies = this.companyService.getCompaniesAfter(cursor, size, sort);
+        return ResponseEntity.ok(companies);
+    }
+
     // 새로운 회사를 추가하는 메서드
     @PostMapping // "/company" 경로로 POST 요청을 처리
     @PreAuthorize("hasRole('WRITE')") // WRITE 권한이 있는 사용자만 접근 가능
@@ -78,12 +90,17 @@ public class CompanyController {
    - 모든 회사 목록을 페이지네이션을 통해 검색하여 반환함.
    - READ 권한이 있는 사용자만 접근 가능하도록 설정됨.
 
-3. 회사 추가 (addCompany)
+3. 커서 기반 회사 목록 조회 (searchCompanyByCursor)
+   - cursor 파라미터가 있으면 OFFSET 대신 마지막으로 반환한 위치(id 또는 (name, id)) 이후만 조회함.
+   - count 쿼리를 실행하지 않으므로 전체 목록을 끝까지 넘겨도 페이지마다 비용이 일정함.
+   - 응답의 nextCursor를 다음 요청의 cursor로 전달하며, 마지막 페이지에서는 null임.
+
+4. 회사 추가 (addCompany)
    - 클라이언트 요청에서 제공된 티커 정보를 기반으로 새로운 회사를 추가함.
    - 추가된 회사 이름을 자동완성 키워드에 등록하여 검색 기능을 확장함.
    - WRITE 권한이 있는 사용자만 접근 가능하도록 설정됨.
 
-4. 회사 삭제 (deleteCompany)
+5. 회사 삭제 (deleteCompany)
    - 티커를 기반으로 회사 정보를 삭제함.
    - 삭제된 회사의 이름을 반환하여 클라이언트에게 결과를 전달함.
    - WRITE 권한이 있는 사용자만 접근 가능하도록 설정됨.
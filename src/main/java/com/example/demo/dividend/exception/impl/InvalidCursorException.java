@@ -0,0 +1,17 @@
+package com.example.demo.dividend.exception.impl;
+
+import com.example.demo.dividend.exception.AbstractException;
+import org.springframework.http.HttpStatus;
+
+public class InvalidCursorException extends AbstractException {
+
+    @Override
+    public int getStatusCode() {
+        return HttpStatus.BAD_REQUEST.value();
+    }
+
+    @Override
+    public String getMessage() {
+        return "유효하지 않은 페이지 커서입니다.";
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.demo.dividend.exception.impl;
+
+import com.example.demo.dividend.exception.AbstractException;
+import org.springframework.http.HttpStatus;
+
+public class ScraperUnavailableException extends AbstractException {
+
+    @Override
+    public int getStatusCode() {
+        return HttpStatus.SERVICE_UNAVAILABLE.value();
+    }
+
+    @Override
+    public String getMessage() {
+        return "배당금 정보 제공처에 일시적으로 연결할 수 없습니다. 잠시 후 다시 시도해주세요.";
+    }
+}
@@ -1,19 +1,33 @@
 package com.example.demo.dividend.model;
 
-import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 public class Dividend {
     private LocalDateTime date;
-    private String dividend;
+    private BigDecimal dividend;
 
-    public Dividend(LocalDateTime now, double v) {
+    public Dividend(LocalDateTime date, BigDecimal dividend) {
+        this.date = date;
+        this.dividend = normalize(dividend);
+    }
+
+    public Dividend(LocalDateTime date, double dividend) {
+        this(date, BigDecimal.valueOf(dividend));
+    }
 
+    // DB(DECIMAL(19,6))에서 읽은 0.240000과 응답의 0.24가 같은 값으로 표현되도록
+    // 불필요한 0은 제거하되, 기존 응답 형식과 맞추기 위해 소수점 둘째 자리까지는 유지함
+    public static BigDecimal normalize(BigDecimal amount) {
+        if (amount == null) {
+            return null;
+        }
+        BigDecimal stripped = amount.stripTrailingZeros();
+        return stripped.scale() < 2 ? stripped.setScale(2) : stripped;
     }
-}
\ No newline at end of file
+}
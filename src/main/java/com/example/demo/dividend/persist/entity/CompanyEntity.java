@@ -3,12 +3,20 @@ package com.example.demo.dividend.persist.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.util.Locale;
+
 @Entity(name = "COMPANY")
 @Getter
 @ToString
 @NoArgsConstructor
-@AllArgsConstructor
-@Builder
+@Table(
+    indexes = {
+        // 배당금 조회(findByName)는 회사명으로 회사를 찾음
+        @Index(name = "idx_company_name", columnList = "name"),
+        // 자동완성(대소문자 구분 없는 접두어 검색)은 소문자로 정규화한 회사명으로 검색해야 인덱스를 사용할 수 있음
+        @Index(name = "idx_company_name_lower", columnList = "nameLower")
+    }
+)
 public class CompanyEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -18,4 +26,19 @@ public class CompanyEntity {
     private String ticker;
 
     private String name;
-}
\ No newline at end of file
+
+    private String nameLower;
+
+    @Builder
+    public CompanyEntity(Long id, String ticker, String name) {
+        this.id = id;
+        this.ticker = ticker;
+        this.name = name;
+        this.nameLower = normalizeName(name);
+    }
+
+    // 검색어도 같은 방식으로 정규화해야 저장된 값과 비교할 수 있음
+    public static String normalizeName(String name) {
+        return name == null ? null : name.toLowerCase(Locale.ROOT);
+    }
+}
@@ -3,6 +3,7 @@ package com.example.demo.dividend.persist.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity(name = "DIVIDEND")
@@ -19,13 +20,18 @@ import java.time.LocalDateTime;
     }
 )
 public class DividendEntity {
+    // IDENTITY는 insert 결과로 id를 받아야 해서 Hibernate가 배치로 묶지 못하므로,
+    // 시퀀스(MySQL은 테이블로 대체)에서 50개씩 id를 미리 받아 두고 insert를 배치로 보냄
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "dividend_seq")
+    @SequenceGenerator(name = "dividend_seq", sequenceName = "dividend_seq", allocationSize = 50)
     private Long id;
 
     private Long companyId;
 
     private LocalDateTime date;
 
-    private String dividend;
+    // 배당금은 소수점 넷째 자리 이하로 지급되는 경우가 있어 문자열 대신 고정 소수점으로 저장함
+    @Column(precision = 19, scale = 6)
+    private BigDecimal dividend;
 }
\ No newline at end of file
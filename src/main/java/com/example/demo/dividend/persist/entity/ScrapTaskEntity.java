@@ -0,0 +1,54 @@
+package com.example.demo.dividend.persist.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 회사별 배당금 갱신 작업
+// 여러 노드가 같은 테이블에서 만료 시간이 있는 임대(lease)를 얻어 작업을 나눠 처리함
+@Entity(name = "SCRAP_TASK")
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(
+    indexes = {
+        @Index(columnList = "status, availableAt")
+    }
+)
+public class ScrapTaskEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(unique = true)
+    private Long companyId;
+
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    // 이번 갱신 주기에서 임대한 횟수, 최대 시도 횟수를 넘으면 다음 주기까지 처리하지 않음
+    private int attempts;
+
+    // 재시도 대기가 끝나 다시 임대할 수 있는 시각
+    private LocalDateTime availableAt;
+
+    // 마지막으로 갱신 주기에 등록된 시각
+    private LocalDateTime enqueuedAt;
+
+    // 작업을 임대한 노드와 임대마다 발급되는 토큰, 임대가 만료되어 다른 노드가 가져간 경우 토큰으로 구분함
+    private String leaseOwner;
+
+    private String leaseToken;
+
+    private LocalDateTime leaseExpiresAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    public enum Status {
+        PENDING, RUNNING, DONE, FAILED
+    }
+}
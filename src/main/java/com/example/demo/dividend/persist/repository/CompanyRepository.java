@@ -1,11 +1,12 @@
 package com.example.demo.dividend.persist.repository;
 
 import com.example.demo.dividend.persist.entity.CompanyEntity;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,5 +14,18 @@ public interface CompanyRepository extends JpaRepository<CompanyEntity, Long> {
     boolean existsByTicker(String ticker);
     Optional<CompanyEntity> findByTicker(String ticker);
     Optional<CompanyEntity> findByName(String name);
-    Page<CompanyEntity> findByNameStartingWithIgnoreCase(String s, Pageable pageable);
+
+    // upper(name) like upper(?) 는 인덱스를 사용할 수 없으므로 소문자로 정규화한 회사명의 접두어로 검색함
+    // (List로 반환하여 자동완성마다 count 쿼리가 실행되지 않도록 함)
+    List<CompanyEntity> findByNameLowerStartingWithOrderByNameLowerAsc(String prefix, Pageable limit);
+
+    // 커서 기반 목록 조회: 마지막으로 반환한 위치 이후만 조회하므로 OFFSET 스캔과 count 쿼리가 없음
+    // (List로 반환하므로 Pageable은 조회 개수 제한으로만 사용됨)
+    List<CompanyEntity> findByIdGreaterThanOrderByIdAsc(Long id, Pageable limit);
+
+    List<CompanyEntity> findByNameNotNullOrderByNameAscIdAsc(Pageable limit);
+
+    // 같은 회사명이 있을 수 있으므로 (name, id) 순서로 다음 위치를 찾음
+    @Query("select c from COMPANY c where c.name > :name or (c.name = :name and c.id > :id) order by c.name, c.id")
+    List<CompanyEntity> findNextByName(String name, Long id, Pageable limit);
 }
\ No newline at end of file
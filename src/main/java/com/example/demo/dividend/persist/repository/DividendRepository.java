@@ -1,18 +1,39 @@
 package com.example.demo.dividend.persist.repository;
 
+import com.example.demo.dividend.model.Dividend;
 import com.example.demo.dividend.persist.entity.DividendEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface DividendRepository extends JpaRepository<DividendEntity, Long> {
+public interface DividendRepository extends JpaRepository<DividendEntity, Long>, DividendUpsertRepository {
     List<DividendEntity> findAllByCompanyId(Long companyId);
+
+    // 조회 전용: 엔티티를 영속성 컨텍스트에 올리지 않고(변경 감지용 스냅샷 없이) 응답 모델로 바로 조회함
+    // fetch size를 크게 주어 배당금 이력 전체를 적은 횟수로 가져오도록 함 (MySQL은 useCursorFetch=true 일 때 적용됨)
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.example.demo.dividend.model.Dividend(d.date, d.dividend) "
+            + "from DIVIDEND d where d.companyId = :companyId order by d.date")
+    List<Dividend> findDividendsByCompanyId(Long companyId);
     boolean existsByCompanyIdAndDate(Long companyId, LocalDateTime date);
 
+    @Query("select max(d.date) from DIVIDEND d where d.companyId = :companyId")
+    Optional<LocalDateTime> findLatestDateByCompanyId(Long companyId);
+
+    // 파생 삭제 쿼리(deleteAllBy...)는 배당금을 모두 조회한 뒤 한 건씩 삭제하므로 한 번의 delete 문으로 삭제함
     @Transactional
-    void deleteAllByCompanyId(Long companyId);
+    @Modifying
+    @Query("delete from DIVIDEND d where d.companyId = :companyId")
+    int deleteAllByCompanyId(Long companyId);
 }
@@ -0,0 +1,14 @@
+package com.example.demo.dividend.persist.repository;
+
+import com.example.demo.dividend.persist.entity.DividendEntity;
+
+import java.util.List;
+
+// DividendRepository에 합쳐지는 일괄 저장 기능
+public interface DividendUpsertRepository {
+
+    // (companyId, date)가 같은 배당금이 이미 있으면 금액만 갱신하고, 없으면 새로 저장함
+    // 행마다 존재 여부를 조회하지 않고 배치 단위로 한 번의 MERGE / INSERT ... ON DUPLICATE KEY UPDATE 로 처리함
+    // 저장된 금액과 같은 배당금은 건너뛰고, 새로 저장하거나 금액을 갱신한 행 수를 반환함
+    int upsertAll(List<DividendEntity> dividends);
+}
@@ -0,0 +1,140 @@
+package com.example.demo.dividend.persist.repository;
+
+import com.example.demo.dividend.persist.entity.DividendEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+class DividendUpsertRepositoryImpl implements DividendUpsertRepository {
+
+    // hibernate.jdbc.batch_size, DividendEntity의 allocationSize와 맞춤
+    private static final int BATCH_SIZE = 50;
+    // DividendEntity.dividend 컬럼의 scale, 저장될 때 반올림되는 자리까지만 비교함
+    private static final int AMOUNT_SCALE = 6;
+
+    private static final String STORED_AMOUNTS = "select d.date, d.dividend from DIVIDEND d "
+            + "where d.companyId = :companyId and d.date >= :from";
+
+    // H2의 MERGE ... KEY 문법은 일치하는 행의 id까지 덮어쓰므로 표준 MERGE 문법을 사용함
+    private static final String H2_UPSERT = """
+            MERGE INTO dividend t
+            USING (VALUES (CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS TIMESTAMP(6)), CAST(? AS DECIMAL(19, 6))))
+                s(id, company_id, date, dividend)
+            ON t.company_id = s.company_id AND t.date = s.date
+            WHEN MATCHED THEN UPDATE SET t.dividend = s.dividend
+            WHEN NOT MATCHED THEN INSERT (id, company_id, date, dividend) VALUES (s.id, s.company_id, s.date, s.dividend)
+            """;
+
+    // rewriteBatchedStatements=true 이면 드라이버가 배치를 여러 행의 VALUES를 가진 하나의 문장으로 합쳐서 보냄
+    // VALUES(col) 함수는 MySQL 8.0.20부터 사용 중단되어 경고가 남으므로 행 별칭(8.0.19+)으로 새 값을 참조함
+    private static final String MYSQL_UPSERT = """
+            INSERT INTO dividend (id, company_id, date, dividend) VALUES (?, ?, ?, ?) AS new
+            ON DUPLICATE KEY UPDATE dividend = new.dividend
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int upsertAll(List<DividendEntity> dividends) {
+        // 저장된 금액과 같은 배당금은 다시 쓰지 않음
+        // 반환값을 배치 결과로 세지 않는 이유: rewriteBatchedStatements로 합쳐진 MySQL 배치는 행마다 SUCCESS_NO_INFO를 돌려주고,
+        // 드라이버 기본 설정(CLIENT_FOUND_ROWS)에서는 값이 그대로인 행도 1로 세므로 실제 변경 여부를 알 수 없음
+        List<DividendEntity> changed = this.withoutUnchanged(dividends);
+        if (changed.isEmpty()) {
+            return 0;
+        }
+
+        SharedSessionContractImplementor session = this.entityManager.unwrap(SharedSessionContractImplementor.class);
+        String sql = upsertSql(session.getJdbcServices().getDialect());
+
+        // id는 엔티티 저장과 같은 시퀀스 생성기(pooled)에서 받아야 Hibernate가 미리 할당해 둔 id 범위와 겹치지 않음
+        // 이미 존재하는 행에 할당된 id는 사용되지 않고 버려짐
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(DividendEntity.class);
+        IdentifierGenerator generator = (IdentifierGenerator) persister.getGenerator();
+        List<Object[]> rows = new ArrayList<>(changed.size());
+        for (DividendEntity dividend : changed) {
+            rows.add(new Object[]{
+                    generator.generate(session, dividend),
+                    dividend.getCompanyId(),
+                    dividend.getDate(),
+                    dividend.getDividend()
+            });
+        }
+
+        this.jdbcTemplate.batchUpdate(sql, rows, BATCH_SIZE, (ps, row) -> {
+            for (int i = 0; i < row.length; i++) {
+                ps.setObject(i + 1, row[i]);
+            }
+        });
+        return changed.size();
+    }
+
+    // 회사별로 가장 이른 날짜 이후에 저장된 금액을 한 번에 조회하여, 새로 저장하거나 금액이 바뀐 배당금만 남김
+    private List<DividendEntity> withoutUnchanged(List<DividendEntity> dividends) {
+        Map<Long, List<DividendEntity>> byCompany = new LinkedHashMap<>();
+        for (DividendEntity dividend : dividends) {
+            byCompany.computeIfAbsent(dividend.getCompanyId(), k -> new ArrayList<>()).add(dividend);
+        }
+
+        List<DividendEntity> changed = new ArrayList<>(dividends.size());
+        for (Map.Entry<Long, List<DividendEntity>> entry : byCompany.entrySet()) {
+            LocalDateTime from = entry.getValue().stream()
+                    .map(DividendEntity::getDate)
+                    .min(LocalDateTime::compareTo)
+                    .orElseThrow();
+            Map<LocalDateTime, BigDecimal> stored = new HashMap<>();
+            this.entityManager.createQuery(STORED_AMOUNTS, Object[].class)
+                    .setParameter("companyId", entry.getKey())
+                    .setParameter("from", from)
+                    .getResultList()
+                    .forEach(row -> stored.put((LocalDateTime) row[0], (BigDecimal) row[1]));
+
+            for (DividendEntity dividend : entry.getValue()) {
+                if (!stored.containsKey(dividend.getDate()) || !sameAmount(stored.get(dividend.getDate()), dividend.getDividend())) {
+                    changed.add(dividend);
+                }
+            }
+        }
+        return changed;
+    }
+
+    private static boolean sameAmount(BigDecimal stored, BigDecimal amount) {
+        if (stored == null || amount == null) {
+            return stored == amount;
+        }
+        return stored.setScale(AMOUNT_SCALE, RoundingMode.HALF_UP)
+                .compareTo(amount.setScale(AMOUNT_SCALE, RoundingMode.HALF_UP)) == 0;
+    }
+
+    private static String upsertSql(Dialect dialect) {
+        if (dialect instanceof H2Dialect) {
+            return H2_UPSERT;
+        }
+        if (dialect instanceof MySQLDialect) {
+            return MYSQL_UPSERT;
+        }
+        throw new IllegalStateException("배당금 일괄 저장을 지원하지 않는 데이터베이스입니다 -> " + dialect);
+    }
+}
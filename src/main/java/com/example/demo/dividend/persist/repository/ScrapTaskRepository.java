@@ -0,0 +1,67 @@
+package com.example.demo.dividend.persist.repository;
+
+import com.example.demo.dividend.persist.entity.ScrapTaskEntity;
+import com.example.demo.dividend.persist.entity.ScrapTaskEntity.Status;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ScrapTaskRepository extends JpaRepository<ScrapTaskEntity, Long> {
+
+    @Query("select c.id from COMPANY c where not exists (select t.id from SCRAP_TASK t where t.companyId = c.id)")
+    List<Long> findCompanyIdsWithoutTask();
+
+    // 완료/실패했거나 임대가 만료된 작업 중 최근에 등록되지 않은 작업만 다시 등록함
+    // 여러 노드가 같은 시각에 등록해도 enqueuedAt 조건 때문에 한 번만 반영됨
+    @Transactional
+    @Modifying
+    @Query("update SCRAP_TASK t set t.status = 'PENDING', t.attempts = 0, t.availableAt = :now, t.enqueuedAt = :now, "
+            + "t.leaseOwner = null, t.leaseToken = null, t.leaseExpiresAt = null, t.lastError = null "
+            + "where (t.status in :finished or (t.status = 'RUNNING' and t.leaseExpiresAt < :now)) "
+            + "and (t.enqueuedAt is null or t.enqueuedAt < :enqueuedBefore)")
+    int requeue(Collection<Status> finished, LocalDateTime now, LocalDateTime enqueuedBefore);
+
+    // 대기 중이거나 임대가 만료된 작업(노드가 종료된 경우)을 임대 후보로 조회함
+    @Query("select t.id from SCRAP_TASK t "
+            + "where ((t.status = 'PENDING' and t.availableAt <= :now) or (t.status = 'RUNNING' and t.leaseExpiresAt < :now)) "
+            + "and t.attempts < :maxAttempts order by t.availableAt")
+    List<Long> findLeasableIds(LocalDateTime now, int maxAttempts, Pageable pageable);
+
+    // 조회 이후 다른 노드가 먼저 임대한 작업은 조건에 맞지 않아 갱신되지 않음
+    @Transactional
+    @Modifying
+    @Query("update SCRAP_TASK t set t.status = 'RUNNING', t.attempts = t.attempts + 1, "
+            + "t.leaseOwner = :owner, t.leaseToken = :token, t.leaseExpiresAt = :expiresAt "
+            + "where t.id in :ids "
+            + "and ((t.status = 'PENDING' and t.availableAt <= :now) or (t.status = 'RUNNING' and t.leaseExpiresAt < :now)) "
+            + "and t.attempts < :maxAttempts")
+    int lease(Collection<Long> ids, String owner, String token, LocalDateTime now, LocalDateTime expiresAt, int maxAttempts);
+
+    List<ScrapTaskEntity> findAllByLeaseToken(String leaseToken);
+
+    // 갱신 주기의 진행 상황을 확인하기 위해 since 이후 등록된 작업을 상태별로 셈
+    @Query("select t.status as status, count(t) as count from SCRAP_TASK t where t.enqueuedAt >= :since group by t.status")
+    List<StatusCount> countByStatusEnqueuedSince(LocalDateTime since);
+
+    interface StatusCount {
+        Status getStatus();
+
+        long getCount();
+    }
+
+    // 임대 토큰이 일치할 때만 결과를 반영하여, 임대가 만료된 뒤 늦게 끝난 노드가 결과를 덮어쓰지 않도록 함
+    @Transactional
+    @Modifying
+    @Query("update SCRAP_TASK t set t.status = :status, t.availableAt = :availableAt, t.lastError = :lastError, "
+            + "t.leaseOwner = null, t.leaseToken = null, t.leaseExpiresAt = null "
+            + "where t.id = :id and t.leaseToken = :token")
+    int release(Long id, String token, Status status, LocalDateTime availableAt, String lastError);
+}
@@ -0,0 +1,230 @@
+package com.example.demo.dividend.scheduler;
+
+import com.example.demo.dividend.persist.entity.CompanyEntity;
+import com.example.demo.dividend.persist.entity.ScrapTaskEntity;
+import com.example.demo.dividend.persist.entity.ScrapTaskEntity.Status;
+import com.example.demo.dividend.persist.repository.CompanyRepository;
+import com.example.demo.dividend.service.CompanyService;
+import com.example.demo.dividend.service.ScrapTaskService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 배당금 갱신을 작업 테이블로 나누어 여러 노드에서 처리함
+// - cron 주기마다 모든 회사의 갱신 작업을 등록함 (여러 노드에서 실행되어도 한 번만 등록됨)
+// - 각 노드는 짧은 주기로 비어 있는 워커 수만큼 작업을 임대해서 처리함
+// - 작업을 등록한 노드는 등록한 작업이 모두 끝날 때까지 작업 테이블을 확인하여 갱신 주기 단위의 실행 시간과 진행률을 기록함
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScraperScheduler {
+
+    private final CompanyRepository companyRepository;
+    private final CompanyService companyService;
+    private final ScrapTaskService scrapTaskService;
+    private final MeterRegistry meterRegistry;
+
+    // 동시에 스크래핑을 수행할 워커 스레드 수
+    @Value("${scheduler.scrap.concurrency:8}")
+    private int concurrency;
+
+    // 갱신 주기에서 몇 개의 회사가 처리될 때마다 진행 상황을 남길지 결정함
+    @Value("${scheduler.scrap.progress-interval:100}")
+    private int progressInterval;
+
+    // 작업을 임대한 노드를 구분하기 위한 이름, 지정하지 않으면 호스트 이름을 사용함
+    @Value("${scheduler.scrap.queue.node-id:}")
+    private String nodeId;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private ExecutorService executor;
+    // 이 노드가 등록한 마지막 갱신 주기, 등록한 작업이 없으면 null
+    private volatile RefreshRun run;
+
+    @PostConstruct
+    public void init() {
+        if (!StringUtils.hasText(this.nodeId)) {
+            this.nodeId = defaultNodeId();
+        }
+        // 회사 수와 관계없이 워커 수를 제한하기 위해 고정 크기 스레드 풀을 사용함
+        this.executor = Executors.newFixedThreadPool(this.concurrency, new CustomizableThreadFactory("scrap-worker-"));
+
+        // 마지막 갱신 주기의 진행률(처리된 작업 / 등록된 작업)과 상태별 작업 수
+        Gauge.builder("scraper.refresh.progress", this, ScraperScheduler::progress)
+                .register(this.meterRegistry);
+        for (Status status : Status.values()) {
+            Gauge.builder("scraper.refresh.run.tasks", this, scheduler -> scheduler.taskCount(status))
+                    .tag("status", status.name().toLowerCase())
+                    .register(this.meterRegistry);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 처리 중이던 작업은 임대가 만료되면 다른 노드가 다시 가져감
+        this.executor.shutdownNow();
+    }
+
+    // 저장된 모든 회사의 배당금 갱신 작업을 주기적으로 등록함
+    @Scheduled(cron = "${scheduler.scrap.yahoo}")
+    public void yahooFinanceScheduling() {
+        LocalDateTime now = LocalDateTime.now();
+        int enqueued = this.scrapTaskService.enqueueAll(now);
+        log.info("배당금 갱신 작업 등록 - tasks: {}, node: {}", enqueued, this.nodeId);
+        if (enqueued == 0) {
+            // 다른 노드가 이미 등록한 경우 그 노드가 갱신 주기 지표를 기록함
+            return;
+        }
+
+        RefreshRun previous = this.run;
+        if (previous != null && !previous.finished) {
+            log.warn("이전 배당금 갱신 주기가 끝나기 전에 새 주기를 시작합니다. - started: {}, processed: {}/{}",
+                    previous.since, previous.processed(), previous.total());
+        }
+        // DB에 저장되는 enqueuedAt은 초 단위 이하가 잘릴 수 있으므로 초 단위로 내려서 비교함
+        this.run = new RefreshRun(now.truncatedTo(ChronoUnit.SECONDS), Timer.start(this.meterRegistry));
+    }
+
+    // 이 노드가 등록한 갱신 주기에 대기 중이거나 임대된 작업이 남아 있지 않으면 주기가 끝난 것으로 기록함
+    // 최대 시도 횟수를 채운 작업의 임대가 만료되면 다시 임대되지 않으므로, 그 주기는 다음 등록 때까지 끝나지 않은 것으로 남음
+    @Scheduled(fixedDelayString = "${scheduler.scrap.progress-check-interval-ms:10000}")
+    public void checkRefreshRun() {
+        RefreshRun current = this.run;
+        if (current == null || current.finished) {
+            return;
+        }
+
+        current.counts = this.scrapTaskService.countByStatusSince(current.since);
+        long processed = current.processed();
+        if (current.remaining() > 0) {
+            if (processed / this.progressInterval > current.loggedProcessed / this.progressInterval) {
+                log.info("배당금 정보 갱신 진행 중 - {}/{} (failed: {})",
+                        processed, current.total(), current.counts.get(Status.FAILED));
+            }
+            current.loggedProcessed = processed;
+            return;
+        }
+
+        current.finished = true;
+        long elapsed = current.sample.stop(this.meterRegistry.timer("scraper.refresh.duration"));
+        log.info("배당금 정보 갱신 완료 - companies: {}, failed: {}, elapsed: {}ms",
+                current.counts.get(Status.DONE), current.counts.get(Status.FAILED), TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    // 비어 있는 워커 수만큼 작업을 임대하여 처리함
+    @Scheduled(fixedDelayString = "${scheduler.scrap.queue.poll-interval-ms:1000}")
+    public void pollScrapTasks() {
+        int free = this.concurrency - this.inFlight.get();
+        if (free <= 0) {
+            return;
+        }
+
+        List<ScrapTaskEntity> tasks = this.scrapTaskService.lease(this.nodeId, free, LocalDateTime.now());
+        if (!tasks.isEmpty()) {
+            log.debug("배당금 갱신 작업 임대 - tasks: {}, node: {}", tasks.size(), this.nodeId);
+        }
+        for (ScrapTaskEntity task : tasks) {
+            this.inFlight.incrementAndGet();
+            this.executor.execute(() -> {
+                try {
+                    this.process(task);
+                } finally {
+                    this.inFlight.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    void process(ScrapTaskEntity task) {
+        Optional<CompanyEntity> company = this.companyRepository.findById(task.getCompanyId());
+        if (company.isEmpty()) {
+            this.scrapTaskService.remove(task);
+            return;
+        }
+
+        Timer.Sample sample = Timer.start(this.meterRegistry);
+        try {
+            int inserted = this.companyService.updateDividends(company.get());
+            this.scrapTaskService.complete(task, LocalDateTime.now());
+            this.meterRegistry.counter("scraper.refresh.companies", "result", "success").increment();
+            this.meterRegistry.counter("scraper.refresh.dividends").increment(inserted);
+        } catch (Exception e) {
+            this.scrapTaskService.fail(task, e, LocalDateTime.now());
+            this.meterRegistry.counter("scraper.refresh.companies", "result", "failure").increment();
+            log.error("배당금 정보 갱신 실패 - ticker: {}, attempts: {}", company.get().getTicker(), task.getAttempts(), e);
+        } finally {
+            sample.stop(this.meterRegistry.timer("scraper.refresh.company.duration"));
+        }
+    }
+
+    private double progress() {
+        RefreshRun current = this.run;
+        if (current == null || current.total() == 0) {
+            return Double.NaN;
+        }
+        return (double) current.processed() / current.total();
+    }
+
+    private double taskCount(Status status) {
+        RefreshRun current = this.run;
+        return current == null ? Double.NaN : current.counts.get(status);
+    }
+
+    // 한 번의 갱신 주기 (cron 실행으로 등록된 작업들)
+    private static final class RefreshRun {
+        private final LocalDateTime since;
+        private final Timer.Sample sample;
+        private volatile Map<Status, Long> counts = Map.of(
+                Status.PENDING, 0L, Status.RUNNING, 0L, Status.DONE, 0L, Status.FAILED, 0L);
+        private volatile boolean finished;
+        private long loggedProcessed;
+
+        private RefreshRun(LocalDateTime since, Timer.Sample sample) {
+            this.since = since;
+            this.sample = sample;
+        }
+
+        private long processed() {
+            return this.counts.get(Status.DONE) + this.counts.get(Status.FAILED);
+        }
+
+        private long remaining() {
+            return this.counts.get(Status.PENDING) + this.counts.get(Status.RUNNING);
+        }
+
+        private long total() {
+            return this.processed() + this.remaining();
+        }
+    }
+
+    private static String defaultNodeId() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        try {
+            return InetAddress.getLocalHost().getHostName() + "-" + suffix;
+        } catch (UnknownHostException e) {
+            return "node-" + suffix;
+        }
+    }
+}
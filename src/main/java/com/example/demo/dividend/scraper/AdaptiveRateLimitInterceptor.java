@@ -0,0 +1,91 @@
+package com.example.demo.dividend.scraper;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 실제 네트워크로 나가는 요청을 호스트별 HostRateLimiter로 제한하는 OkHttp 네트워크 인터셉터
+// 디스크 캐시에서 응답하는 요청은 네트워크를 사용하지 않으므로 제한 대상이 아님
+@Slf4j
+public class AdaptiveRateLimitInterceptor implements Interceptor {
+
+    private final HostRateLimiter.Settings settings;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, HostRateLimiter> limiters = new ConcurrentHashMap<>();
+
+    public AdaptiveRateLimitInterceptor(HostRateLimiter.Settings settings, MeterRegistry meterRegistry) {
+        this.settings = settings;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        String host = chain.request().url().host();
+        HostRateLimiter limiter = this.limiters.computeIfAbsent(host, this::createLimiter);
+
+        try {
+            limiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while waiting for rate limit -> " + host);
+        }
+
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = chain.proceed(chain.request());
+        } catch (IOException | RuntimeException e) {
+            this.record(host, limiter.releaseOnError(), limiter);
+            throw e;
+        }
+
+        HostRateLimiter.Throttle throttle = limiter.release(
+                response.code(), System.nanoTime() - start, retryAfterSeconds(response));
+        this.record(host, throttle, limiter);
+        return response;
+    }
+
+    private void record(String host, HostRateLimiter.Throttle throttle, HostRateLimiter limiter) {
+        if (throttle == HostRateLimiter.Throttle.NONE) {
+            return;
+        }
+        this.meterRegistry.counter("scraper.ratelimit.throttled", "host", host, "reason", throttle.name().toLowerCase())
+                .increment();
+        log.warn("upstream throttling detected -> host: {}, reason: {}, concurrency limit: {}",
+                host, throttle, String.format("%.2f", limiter.getLimit()));
+    }
+
+    private HostRateLimiter createLimiter(String host) {
+        HostRateLimiter limiter = new HostRateLimiter(this.settings);
+        Gauge.builder("scraper.ratelimit.concurrency.limit", limiter, HostRateLimiter::getLimit)
+                .tag("host", host)
+                .register(this.meterRegistry);
+        Gauge.builder("scraper.ratelimit.inflight", limiter, HostRateLimiter::getInFlight)
+                .tag("host", host)
+                .register(this.meterRegistry);
+        Gauge.builder("scraper.ratelimit.rate", limiter, HostRateLimiter::getPermitsPerSecond)
+                .tag("host", host)
+                .register(this.meterRegistry);
+        return limiter;
+    }
+
+    // Retry-After 헤더는 초 단위 숫자 형식만 사용함
+    private static long retryAfterSeconds(Response response) {
+        String retryAfter = response.header("Retry-After");
+        if (retryAfter == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(retryAfter.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
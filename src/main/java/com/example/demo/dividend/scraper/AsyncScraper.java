@@ -0,0 +1,13 @@
+package com.example.demo.dividend.scraper;
+
+import com.example.demo.dividend.model.Company;
+import com.example.demo.dividend.model.ScrapedResult;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncScraper {
+    CompletableFuture<Company> scrapCompanyByTickerAsync(String ticker);
+    CompletableFuture<ScrapedResult> scrapAsync(Company company);
+    CompletableFuture<ScrapedResult> scrapSinceAsync(Company company, LocalDateTime since);
+}
@@ -0,0 +1,89 @@
+package com.example.demo.dividend.scraper;
+
+import com.example.demo.dividend.model.Dividend;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+// Yahoo chart 응답에서 chart.result[0].events.dividends 객체만 스트리밍으로 읽어오는 파서
+// 시세 배열(timestamp, indicators 등)은 트리로 만들지 않고 건너뛰어 큰 응답도 메모리에 올리지 않음
+class ChartDividendParser {
+
+    private final JsonFactory jsonFactory;
+
+    ChartDividendParser() {
+        this(new JsonFactory());
+    }
+
+    ChartDividendParser(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    List<Dividend> parse(InputStream in) throws IOException {
+        List<Dividend> dividends = new ArrayList<>();
+
+        try (JsonParser parser = this.jsonFactory.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT
+                    || !moveToField(parser, "chart", JsonToken.START_OBJECT)
+                    || !moveToField(parser, "result", JsonToken.START_ARRAY)
+                    || parser.nextToken() != JsonToken.START_OBJECT
+                    || !moveToField(parser, "events", JsonToken.START_OBJECT)
+                    || !moveToField(parser, "dividends", JsonToken.START_OBJECT)) {
+                return dividends;
+            }
+
+            // dividends 객체는 {"<timestamp>": {"amount": .., "date": ..}, ...} 형태임
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    continue;
+                }
+                dividends.add(readDividend(parser));
+            }
+        }
+
+        // 필요한 부분을 모두 읽었으므로 나머지 본문은 읽지 않고 종료함
+        return dividends;
+    }
+
+    private Dividend readDividend(JsonParser parser) throws IOException {
+        long timestamp = 0;
+        BigDecimal amount = BigDecimal.ZERO;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "date" -> timestamp = parser.getValueAsLong();
+                // double을 거치지 않고 JSON 숫자 표현 그대로 읽어 0.0425 같은 금액의 정밀도를 유지함
+                case "amount" -> amount = parser.getDecimalValue();
+                default -> parser.skipChildren();
+            }
+        }
+
+        LocalDateTime date = LocalDateTime.ofEpochSecond(timestamp, 0, ZoneOffset.UTC);
+        return new Dividend(date, amount);
+    }
+
+    // 현재 객체 안에서 지정한 필드를 찾을 때까지 다른 필드의 값을 건너뜀
+    // 찾은 경우 파서는 해당 필드 값의 시작 토큰에 위치함
+    private static boolean moveToField(JsonParser parser, String name, JsonToken expected) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (name.equals(field)) {
+                return value == expected;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.demo.dividend.scraper;
+
+import java.util.concurrent.TimeUnit;
+
+// 업스트림 장애가 이어지면 요청을 보내지 않고 즉시 실패시키는 서킷 브레이커
+// - CLOSED: 최근 windowSize 개 호출의 실패율이 기준을 넘으면 OPEN으로 전환함
+// - OPEN: openDuration 동안 모든 호출을 거절한 뒤 HALF_OPEN으로 전환함
+// - HALF_OPEN: halfOpenProbes 개의 호출만 시험 삼아 보내고, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+// 호출 결과는 호출을 허용한 시점의 상태에만 반영함 (CLOSED 상태에서 보낸 호출이 HALF_OPEN 상태에서 끝나도 시험 호출로 세지 않음)
+public class CircuitBreaker {
+
+    public record Settings(int windowSize, int minimumCalls, double failureRateThreshold,
+                           long openDurationMs, int halfOpenProbes) {
+    }
+
+    // 호출을 허용할 때 발급하는 허가, 발급 이후 상태가 바뀌었으면 결과를 반영하지 않음
+    public record Permit(long generation) {
+    }
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final Settings settings;
+
+    // 최근 호출 결과를 원형 버퍼로 보관함
+    private final boolean[] outcomes;
+    private int outcomeIndex;
+    private int outcomeCount;
+    private int failureCount;
+
+    private State state = State.CLOSED;
+    // 상태가 바뀔 때마다 증가하여 이전 상태에서 발급한 허가를 구분함
+    private long generation;
+    private long openedAtNanos;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    public CircuitBreaker(Settings settings) {
+        this.settings = settings;
+        this.outcomes = new boolean[settings.windowSize()];
+    }
+
+    // 호출을 보내도 되는지 확인하고, HALF_OPEN 상태에서는 시험 호출 슬롯을 차지함
+    // 호출을 거절하면 null을 반환함
+    public synchronized Permit tryAcquire() {
+        if (this.state == State.OPEN) {
+            if (System.nanoTime() - this.openedAtNanos < TimeUnit.MILLISECONDS.toNanos(this.settings.openDurationMs())) {
+                return null;
+            }
+            this.transitionTo(State.HALF_OPEN);
+        }
+        if (this.state == State.HALF_OPEN) {
+            if (this.probesInFlight + this.probeSuccesses >= this.settings.halfOpenProbes()) {
+                return null;
+            }
+            this.probesInFlight++;
+        }
+        return new Permit(this.generation);
+    }
+
+    public synchronized void onSuccess(Permit permit) {
+        if (this.isStale(permit)) {
+            return;
+        }
+        if (this.state == State.HALF_OPEN) {
+            this.probesInFlight--;
+            if (++this.probeSuccesses >= this.settings.halfOpenProbes()) {
+                this.transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        this.record(false);
+    }
+
+    public synchronized void onFailure(Permit permit) {
+        if (this.isStale(permit)) {
+            return;
+        }
+        if (this.state == State.HALF_OPEN) {
+            this.transitionTo(State.OPEN);
+            return;
+        }
+        this.record(true);
+        if (this.state == State.CLOSED
+                && this.outcomeCount >= this.settings.minimumCalls()
+                && (double) this.failureCount / this.outcomeCount >= this.settings.failureRateThreshold()) {
+            this.transitionTo(State.OPEN);
+        }
+    }
+
+    // 잘못된 티커처럼 업스트림 상태와 관계없는 실패는 결과에 반영하지 않고 시험 호출 슬롯만 반환함
+    public synchronized void onIgnored(Permit permit) {
+        if (this.isStale(permit)) {
+            return;
+        }
+        if (this.state == State.HALF_OPEN) {
+            this.probesInFlight--;
+        }
+    }
+
+    public synchronized State getState() {
+        return this.state;
+    }
+
+    // 허가를 발급한 뒤 상태가 바뀌었으면 그 호출의 결과는 현재 상태와 관계가 없음
+    private boolean isStale(Permit permit) {
+        return permit.generation() != this.generation;
+    }
+
+    private void record(boolean failure) {
+        if (this.outcomeCount == this.outcomes.length) {
+            if (this.outcomes[this.outcomeIndex]) {
+                this.failureCount--;
+            }
+        } else {
+            this.outcomeCount++;
+        }
+        this.outcomes[this.outcomeIndex] = failure;
+        if (failure) {
+            this.failureCount++;
+        }
+        this.outcomeIndex = (this.outcomeIndex + 1) % this.outcomes.length;
+    }
+
+    private void transitionTo(State next) {
+        this.state = next;
+        this.generation++;
+        this.probesInFlight = 0;
+        this.probeSuccesses = 0;
+        if (next == State.OPEN) {
+            this.openedAtNanos = System.nanoTime();
+        }
+        if (next == State.CLOSED) {
+            // 장애 이전의 결과로 바로 다시 열리지 않도록 기록을 비움
+            this.outcomeIndex = 0;
+            this.outcomeCount = 0;
+            this.failureCount = 0;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.demo.dividend.scraper;
+
+import org.jsoup.parser.Parser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Set;
+
+// Yahoo quote 페이지에서 첫 번째 <h1> 요소의 텍스트만 읽어오는 추출기
+// 전체 DOM을 만들지 않고 문자 단위로 태그를 찾으며, </h1>을 만나면 나머지 본문은 읽지 않음
+// Jsoup과 같이 주석과 <script>, <style> 등 원문 텍스트 요소의 내용, 다른 태그의 속성 값은 태그로 해석하지 않음
+class CompanyNameExtractor {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+    // 비정상적으로 긴 제목이 메모리를 계속 사용하지 않도록 제한함
+    private static final int MAX_TITLE_LENGTH = 1024;
+    // 비교할 태그 이름보다 긴 이름은 끝까지 모을 필요가 없음
+    private static final int MAX_TAG_NAME_LENGTH = 16;
+    private static final String TITLE_TAG = "h1";
+    private static final String COMMENT_START = "!--";
+    // 닫는 태그가 나올 때까지 내용을 태그로 해석하지 않는 요소 (인라인 스크립트의 JSON/문자열 등)
+    private static final Set<String> RAW_TEXT_TAGS = Set.of("script", "style", "title", "textarea", "xmp", "noembed", "noframes", "iframe");
+
+    private enum State {
+        SEARCH, TAG_NAME, SKIP_TAG, COMMENT, RAW_TEXT, OPEN_TAG, TEXT, INNER_TAG_NAME, INNER_TAG
+    }
+
+    // 첫 번째 <h1> 요소의 텍스트를 Element.text()와 같이 공백을 정리하여 반환하고, 없으면 null을 반환함
+    String extract(Reader reader) throws IOException {
+        char[] buffer = new char[BUFFER_SIZE];
+        State state = State.SEARCH;
+        // 주석이 끝난 뒤 돌아갈 상태 (<h1> 밖 또는 안)
+        State afterComment = State.SEARCH;
+        int dashes = 0;
+        char quote = 0;
+        String rawTextTag = null;
+        String rawTextEnd = null;
+        int matched = 0;
+        StringBuilder text = new StringBuilder();
+        StringBuilder tagName = new StringBuilder();
+
+        int read;
+        while ((read = reader.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                char c = buffer[i];
+                switch (state) {
+                    case SEARCH -> {
+                        if (c == '<') {
+                            tagName.setLength(0);
+                            state = State.TAG_NAME;
+                        }
+                    }
+                    case TAG_NAME -> {
+                        if (c == '>' || c == '/' && !tagName.isEmpty() || Character.isWhitespace(c)) {
+                            String name = tagName.toString().toLowerCase();
+                            if (name.isEmpty()) {
+                                // "a < b" 처럼 태그가 아닌 '<'
+                                state = State.SEARCH;
+                            } else if (TITLE_TAG.equals(name)) {
+                                state = c == '>' ? State.TEXT : State.OPEN_TAG;
+                            } else {
+                                rawTextTag = RAW_TEXT_TAGS.contains(name) ? name : null;
+                                if (rawTextTag != null) {
+                                    rawTextEnd = "</" + rawTextTag;
+                                    matched = 0;
+                                }
+                                state = c == '>' ? afterTag(rawTextTag) : State.SKIP_TAG;
+                            }
+                        } else if (c == '<') {
+                            tagName.setLength(0);
+                        } else if (tagName.isEmpty() && !Character.isLetter(c) && c != '/' && c != '!') {
+                            state = State.SEARCH;
+                        } else if (tagName.length() < MAX_TAG_NAME_LENGTH) {
+                            tagName.append(c);
+                            if (COMMENT_START.contentEquals(tagName)) {
+                                afterComment = State.SEARCH;
+                                dashes = 0;
+                                state = State.COMMENT;
+                            }
+                        }
+                    }
+                    case SKIP_TAG -> {
+                        // 속성 값 안의 '<h1>'이나 '>'는 태그가 아님
+                        if (quote != 0) {
+                            if (c == quote) {
+                                quote = 0;
+                            }
+                        } else if (c == '"' || c == '\'') {
+                            quote = c;
+                        } else if (c == '>') {
+                            state = afterTag(rawTextTag);
+                        }
+                    }
+                    case COMMENT -> {
+                        // "-->" 가 나오면 주석이 끝남
+                        if (c == '>' && dashes >= 2) {
+                            state = afterComment;
+                        }
+                        dashes = c == '-' ? dashes + 1 : 0;
+                    }
+                    case RAW_TEXT -> {
+                        // </script 다음에 태그 이름이 끝나야 닫는 태그임 (</scripts 등은 내용으로 취급)
+                        if (matched == rawTextEnd.length()) {
+                            if (c == '>') {
+                                rawTextTag = null;
+                                state = State.SEARCH;
+                            } else if (c == '/' || Character.isWhitespace(c)) {
+                                rawTextTag = null;
+                                state = State.SKIP_TAG;
+                            } else {
+                                matched = c == '<' ? 1 : 0;
+                            }
+                        } else if (Character.toLowerCase(c) == rawTextEnd.charAt(matched)) {
+                            matched++;
+                        } else {
+                            matched = c == '<' ? 1 : 0;
+                        }
+                    }
+                    case OPEN_TAG -> {
+                        // 속성 값 안의 '>'는 태그의 끝이 아님
+                        if (quote != 0) {
+                            if (c == quote) {
+                                quote = 0;
+                            }
+                        } else if (c == '"' || c == '\'') {
+                            quote = c;
+                        } else if (c == '>') {
+                            state = State.TEXT;
+                        }
+                    }
+                    case TEXT -> {
+                        if (c == '<') {
+                            tagName.setLength(0);
+                            state = State.INNER_TAG_NAME;
+                        } else if (text.length() < MAX_TITLE_LENGTH) {
+                            text.append(c);
+                        }
+                    }
+                    case INNER_TAG_NAME -> {
+                        if (c == '>' || Character.isWhitespace(c)) {
+                            if ("/h1".contentEquals(tagName.toString().toLowerCase())) {
+                                return normalize(text);
+                            }
+                            state = c == '>' ? State.TEXT : State.INNER_TAG;
+                        } else if (tagName.length() < MAX_TAG_NAME_LENGTH) {
+                            tagName.append(c);
+                            if (COMMENT_START.contentEquals(tagName)) {
+                                // <h1> 안의 주석은 텍스트에 포함하지 않음
+                                afterComment = State.TEXT;
+                                dashes = 0;
+                                state = State.COMMENT;
+                            }
+                        }
+                    }
+                    case INNER_TAG -> {
+                        // <h1> 안의 <span> 등 하위 태그는 건너뛰고 텍스트만 모음
+                        if (c == '>') {
+                            state = State.TEXT;
+                        }
+                    }
+                }
+            }
+        }
+
+        // </h1> 없이 본문이 끝난 경우 Jsoup과 같이 그때까지의 텍스트를 사용함
+        boolean inTitle = state == State.TEXT || state == State.INNER_TAG_NAME || state == State.INNER_TAG
+                || state == State.COMMENT && afterComment == State.TEXT;
+        return inTitle ? normalize(text) : null;
+    }
+
+    // 여는 태그가 끝난 뒤 원문 텍스트 요소이면 닫는 태그까지 내용을 건너뜀
+    private static State afterTag(String rawTextTag) {
+        return rawTextTag != null ? State.RAW_TEXT : State.SEARCH;
+    }
+
+    private static String normalize(StringBuilder text) {
+        return Parser.unescapeEntities(text.toString(), false).replaceAll("\\s+", " ").trim();
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.demo.dividend.scraper;
+
+import com.example.demo.dividend.model.Company;
+import com.example.demo.dividend.model.ScrapedResult;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Scraper 호출을 전용 스레드 풀에서 실행하고 CompletableFuture로 결과를 돌려주는 비동기 스크래퍼
+// 요청 스레드(Tomcat)는 업스트림 응답을 기다리지 않고, 많은 티커를 요청해도 스레드 수는 pool-size로 제한됨
+@Component
+public class ExecutorAsyncScraper implements AsyncScraper {
+
+    private final Scraper scraper;
+    private final ExecutorService executor;
+
+    public ExecutorAsyncScraper(Scraper scraper, @Value("${scraper.async.pool-size:16}") int poolSize) {
+        this.scraper = scraper;
+        // 작업이 몰려도 스레드를 늘리지 않고 큐에 쌓아 순서대로 처리함
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), new CustomizableThreadFactory("scraper-async-"));
+    }
+
+    @Override
+    public CompletableFuture<Company> scrapCompanyByTickerAsync(String ticker) {
+        return this.submit(() -> this.scraper.scrapCompanyByTicker(ticker));
+    }
+
+    @Override
+    public CompletableFuture<ScrapedResult> scrapAsync(Company company) {
+        return this.submit(() -> this.scraper.scrap(company));
+    }
+
+    @Override
+    public CompletableFuture<ScrapedResult> scrapSinceAsync(Company company, LocalDateTime since) {
+        return this.submit(() -> this.scraper.scrapSince(company, since));
+    }
+
+    // CompletableFuture.cancel은 실행 중인 작업을 멈추지 않으므로, 반환한 future가 취소되면 작업도 취소함
+    // 대기 중인 작업은 실행되지 않고, 실행 중인 작업은 스레드가 인터럽트되어 속도 제한 대기나 HTTP 요청을 중단함
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> running = this.executor.submit(() -> {
+            try {
+                result.complete(task.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        result.whenComplete((value, e) -> {
+            if (result.isCancelled()) {
+                running.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.executor.shutdown();
+    }
+}
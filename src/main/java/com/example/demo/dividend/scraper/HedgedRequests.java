@@ -0,0 +1,287 @@
+package com.example.demo.dividend.scraper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 응답이 늦어지는 요청을 다른 호스트로 한 번 더 보내고(hedged request) 먼저 성공한 응답을 사용함
+// - 대기 시간은 최근 응답 지연 시간의 백분위수(예: p95)로 정하며, 설정한 최소 대기 시간보다 짧아지지 않음
+// - 대부분의 요청은 대기 시간 안에 끝나므로 추가 요청은 느린 꼬리 구간(p95 이상)에서만 발생함
+// - 대기 시간과 지연 시간 표본은 첫 요청이 속도 제한기를 통과해 네트워크로 나간 시점부터 잼 (admissionInterceptor)
+//   속도 제한기에서 기다리는 동안 추가 요청을 보내면 제한이 따로 적용되는 대체 호스트로 부하가 넘어가 제한이 무력화됨
+// - 추가 요청은 RetryBudget과 같은 토큰 버킷으로 전체 요청의 일정 비율(budgetRatio)까지만 보냄
+@Slf4j
+public class HedgedRequests {
+
+    public record Settings(boolean enabled, String alternateHost, long minDelayMs, double percentile,
+                           double budgetRatio, double budgetMinPerSecond) {
+
+        public static final Settings DISABLED = new Settings(false, null, 0, 0, 0, 0);
+    }
+
+    // 백분위수를 계산하기 위해 보관할 최근 지연 시간 개수와, 백분위수를 사용하기 시작할 최소 표본 수
+    private static final int WINDOW_SIZE = 256;
+    private static final int MIN_SAMPLES = 20;
+
+    // 첫 요청이 속도 제한기를 통과해 네트워크로 나갔음을 알리는 신호 (outcomes 큐로 전달됨)
+    private static final Outcome ADMITTED = new Outcome(null, false, null, null);
+
+    private final Settings settings;
+    private final MeterRegistry meterRegistry;
+    private final RetryBudget budget;
+    private final Interceptor admissionInterceptor = chain -> {
+        Admission admission = chain.request().tag(Admission.class);
+        if (admission != null) {
+            admission.race().admit();
+        }
+        return chain.proceed(chain.request());
+    };
+    private final long[] latencies = new long[WINDOW_SIZE];
+    private int latencyCount;
+    private int latencyIndex;
+
+    public HedgedRequests(Settings settings, MeterRegistry meterRegistry) {
+        this.settings = settings;
+        this.meterRegistry = meterRegistry;
+        // 예산 최대치는 초당 허용 추가 요청 수의 10배로 두어 잠깐 느려진 경우에만 몰아서 보낼 수 있게 함
+        this.budget = new RetryBudget(settings.budgetRatio(), settings.budgetMinPerSecond(),
+                Math.max(1, settings.budgetMinPerSecond() * 10));
+    }
+
+    // 속도 제한 인터셉터(AdaptiveRateLimitInterceptor)보다 뒤에 네트워크 인터셉터로 등록해야 함
+    // 등록되지 않은 클라이언트는 요청을 큐에 넣은 시점부터 대기 시간을 잼
+    public Interceptor admissionInterceptor() {
+        return this.admissionInterceptor;
+    }
+
+    public boolean isEnabled() {
+        return this.settings.enabled() && this.settings.alternateHost() != null;
+    }
+
+    // 요청의 호스트만 대체 호스트로 바꾼 추가 요청을 만듦
+    public Request alternate(Request request) {
+        return request.newBuilder()
+                .url(request.url().newBuilder().host(this.settings.alternateHost()).build())
+                .build();
+    }
+
+    // 첫 요청이 대기 시간 안에 끝나지 않으면 대체 호스트로 추가 요청을 보내고, 먼저 성공한 응답을 반환함
+    // 두 요청이 모두 실패하면 마지막으로 받은 실패 응답 또는 예외를 그대로 전달함
+    public Response execute(OkHttpClient client, Request request) throws IOException {
+        if (!this.isEnabled()) {
+            return client.newCall(request).execute();
+        }
+        this.meterRegistry.counter("scraper.hedge.calls").increment();
+        this.budget.onRequest();
+
+        Race race = new Race(client, client.networkInterceptors().contains(this.admissionInterceptor));
+        race.start(request, false);
+        try {
+            Outcome outcome = race.pollPrimary(this.hedgeDelayNanos());
+            if (outcome == null) {
+                if (this.budget.tryAcquireRetry()) {
+                    log.debug("slow response, sending hedged request -> {}", request.url());
+                    this.meterRegistry.counter("scraper.hedge.sent").increment();
+                    race.start(this.alternate(request), true);
+                } else {
+                    // 추가 요청 예산을 다 쓴 경우 첫 요청의 결과를 그대로 기다림
+                    this.meterRegistry.counter("scraper.hedge.skipped").increment();
+                }
+            }
+
+            int received = 0;
+            while (true) {
+                if (outcome == null) {
+                    outcome = race.outcomes.take();
+                }
+                if (outcome == ADMITTED) {
+                    outcome = null;
+                    continue;
+                }
+                received++;
+                if (outcome.isSuccessful() || received == race.calls.size()) {
+                    race.finish(outcome);
+                    if (outcome.hedge() && outcome.isSuccessful()) {
+                        // 취소된 첫 요청의 지연 시간은 최소한 추가 요청이 이길 때까지 걸린 시간이므로 그 값으로 기록함
+                        // 기록하지 않으면 빠른 응답만 표본에 남아 대기 시간이 점점 짧아지고 추가 요청이 늘어남
+                        race.recordPrimaryLatency();
+                        this.meterRegistry.counter("scraper.hedge.wins").increment();
+                    }
+                    return outcome.get();
+                }
+                // 다른 요청의 결과를 기다리는 동안 실패한 응답은 닫음
+                outcome.discard();
+                outcome = null;
+            }
+        } catch (InterruptedException e) {
+            race.finish(null);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while waiting for response -> " + request.url());
+        }
+    }
+
+    long hedgeDelayNanos() {
+        long minDelayNanos = TimeUnit.MILLISECONDS.toNanos(this.settings.minDelayMs());
+        long[] samples;
+        synchronized (this.latencies) {
+            if (this.latencyCount < MIN_SAMPLES) {
+                return minDelayNanos;
+            }
+            samples = Arrays.copyOf(this.latencies, this.latencyCount);
+        }
+        Arrays.sort(samples);
+        int index = (int) Math.ceil(this.settings.percentile() * samples.length) - 1;
+        return Math.max(minDelayNanos, samples[Math.max(index, 0)]);
+    }
+
+    // 첫 요청의 응답 지연 시간만 기록하여 원래 호스트의 지연 분포를 추적함
+    // 추가 요청이 이겨 첫 요청이 취소된 경우에는 첫 요청이 네트워크로 나간 시점부터 추가 요청이 이긴 시점까지의 시간을 기록함
+    void recordLatency(long latencyNanos) {
+        synchronized (this.latencies) {
+            this.latencies[this.latencyIndex] = latencyNanos;
+            this.latencyIndex = (this.latencyIndex + 1) % WINDOW_SIZE;
+            this.latencyCount = Math.min(this.latencyCount + 1, WINDOW_SIZE);
+        }
+    }
+
+    private record Outcome(Call call, boolean hedge, Response response, IOException error) {
+
+        boolean isSuccessful() {
+            return this.response != null && this.response.isSuccessful();
+        }
+
+        Response get() throws IOException {
+            if (this.error != null) {
+                throw this.error;
+            }
+            return this.response;
+        }
+
+        void discard() {
+            if (this.response != null) {
+                this.response.close();
+            }
+        }
+    }
+
+    // 첫 요청에 붙여 admissionInterceptor가 해당 Race를 찾을 수 있게 하는 태그
+    private record Admission(Race race) {
+    }
+
+    // 같은 요청을 보낸 호출들의 결과를 모으고, 결과가 정해지면 나머지 호출을 취소함
+    private final class Race {
+
+        private final OkHttpClient client;
+        private final boolean tracksAdmission;
+        private final List<Call> calls = new ArrayList<>(2);
+        private final BlockingQueue<Outcome> outcomes = new LinkedBlockingQueue<>();
+        private final AtomicBoolean admitted = new AtomicBoolean();
+        private final AtomicBoolean primaryRecorded = new AtomicBoolean();
+        private volatile long primaryStartNanos;
+        private volatile boolean finished;
+
+        private Race(OkHttpClient client, boolean tracksAdmission) {
+            this.client = client;
+            this.tracksAdmission = tracksAdmission;
+        }
+
+        void start(Request request, boolean hedge) {
+            if (!hedge && this.tracksAdmission) {
+                request = request.newBuilder().tag(Admission.class, new Admission(this)).build();
+            }
+            Call call = this.client.newCall(request);
+            this.calls.add(call);
+            if (!hedge && !this.tracksAdmission) {
+                this.admitted.set(true);
+                this.primaryStartNanos = System.nanoTime();
+            }
+            call.enqueue(new Callback() {
+                @Override
+                public void onResponse(Call call, Response response) {
+                    // 디스크 캐시에서 바로 응답한 경우처럼 네트워크로 나가지 않은 요청은 지연 시간을 기록하지 않음
+                    if (!hedge && response.isSuccessful() && admitted.get()) {
+                        recordPrimaryLatency();
+                    }
+                    offer(new Outcome(call, hedge, response, null));
+                }
+
+                @Override
+                public void onFailure(Call call, IOException e) {
+                    offer(new Outcome(call, hedge, null, e));
+                }
+            });
+        }
+
+        // 재시도나 리다이렉트로 여러 번 호출되어도 처음 네트워크로 나간 시점만 사용함
+        void admit() {
+            if (this.admitted.compareAndSet(false, true)) {
+                this.primaryStartNanos = System.nanoTime();
+                this.outcomes.add(ADMITTED);
+            }
+        }
+
+        // 첫 요청이 네트워크로 나간 뒤 delayNanos 안에 결과가 나오지 않으면 null을 반환함
+        // 속도 제한기에서 기다리는 동안은 대기 시간이 흐르지 않으므로 추가 요청을 보내지 않음
+        Outcome pollPrimary(long delayNanos) throws InterruptedException {
+            while (true) {
+                Outcome outcome;
+                if (this.admitted.get()) {
+                    long remaining = this.primaryStartNanos + delayNanos - System.nanoTime();
+                    outcome = this.outcomes.poll(remaining, TimeUnit.NANOSECONDS);
+                } else {
+                    outcome = this.outcomes.take();
+                }
+                if (outcome != ADMITTED) {
+                    return outcome;
+                }
+            }
+        }
+
+        // 첫 요청의 지연 시간은 한 번만 기록함 (추가 요청이 이긴 직후 첫 요청의 응답이 도착하는 경우)
+        void recordPrimaryLatency() {
+            if (this.primaryRecorded.compareAndSet(false, true)) {
+                recordLatency(System.nanoTime() - this.primaryStartNanos);
+            }
+        }
+
+        // 결과가 정해진 뒤 도착한 응답은 사용하지 않으므로 바로 닫음
+        private void offer(Outcome outcome) {
+            this.outcomes.add(outcome);
+            if (this.finished) {
+                this.discardPending();
+            }
+        }
+
+        void finish(Outcome winner) {
+            this.finished = true;
+            for (Call call : this.calls) {
+                if (winner == null || call != winner.call()) {
+                    call.cancel();
+                }
+            }
+            this.discardPending();
+        }
+
+        private void discardPending() {
+            Outcome outcome;
+            while ((outcome = this.outcomes.poll()) != null) {
+                outcome.discard();
+            }
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.demo.dividend.scraper;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 하나의 호스트로 나가는 요청의 속도와 동시 요청 수를 제한함
+// - 토큰 버킷: 초당 permitsPerSecond 개의 토큰을 충전하고 burst 개까지 몰아서 사용할 수 있음
+// - AIMD 동시성 제한: 정상 응답이면 제한을 조금씩 늘리고(additive increase),
+//   429/5xx 응답이나 지연 시간 증가가 감지되면 제한을 비율로 줄임(multiplicative decrease)
+public class HostRateLimiter {
+
+    public record Settings(double permitsPerSecond, double burst, int initialConcurrency,
+                           int minConcurrency, int maxConcurrency, double backoffRatio,
+                           double latencyTolerance) {
+    }
+
+    // 응답 결과에 따라 제한이 줄어든 이유
+    public enum Throttle {
+        NONE, RATE_LIMITED, SERVER_ERROR, LATENCY, IO_ERROR
+    }
+
+    private final Settings settings;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = this.lock.newCondition();
+
+    private double tokens;
+    private long lastRefillNanos;
+    private long pausedUntilNanos;
+    private double limit;
+    private int inFlight;
+    private double baselineLatencyNanos = Double.MAX_VALUE;
+    private double smoothedLatencyNanos;
+    private long lastDecreaseNanos;
+
+    public HostRateLimiter(Settings settings) {
+        this.settings = settings;
+        this.tokens = settings.burst();
+        this.limit = settings.initialConcurrency();
+        this.lastRefillNanos = System.nanoTime();
+        // nanoTime은 음수일 수 있으므로 첫 감소가 막히지 않도록 충분히 과거 시점으로 초기화함
+        this.lastDecreaseNanos = this.lastRefillNanos - TimeUnit.DAYS.toNanos(1);
+    }
+
+    // 동시 요청 슬롯과 토큰을 모두 얻을 때까지 대기함
+    public void acquire() throws InterruptedException {
+        this.lock.lockInterruptibly();
+        try {
+            while (this.inFlight >= (int) this.limit) {
+                this.changed.await();
+            }
+            this.inFlight++;
+
+            try {
+                while (true) {
+                    long now = System.nanoTime();
+                    this.refill(now);
+
+                    long waitNanos;
+                    if (now < this.pausedUntilNanos) {
+                        // Retry-After 로 지정된 시간 동안은 요청을 보내지 않음
+                        waitNanos = this.pausedUntilNanos - now;
+                    } else if (this.tokens >= 1) {
+                        this.tokens -= 1;
+                        return;
+                    } else {
+                        waitNanos = (long) ((1 - this.tokens) / this.settings.permitsPerSecond() * 1_000_000_000L);
+                    }
+                    this.changed.awaitNanos(Math.max(waitNanos, 1));
+                }
+            } catch (InterruptedException e) {
+                this.inFlight--;
+                this.changed.signalAll();
+                throw e;
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    // 응답 상태 코드와 지연 시간으로 동시성 제한을 조정하고 슬롯을 반환함
+    public Throttle release(int statusCode, long latencyNanos, long retryAfterSeconds) {
+        this.lock.lock();
+        try {
+            this.inFlight--;
+            long now = System.nanoTime();
+            if (retryAfterSeconds > 0) {
+                this.pausedUntilNanos = Math.max(this.pausedUntilNanos, now + TimeUnit.SECONDS.toNanos(retryAfterSeconds));
+            }
+
+            Throttle throttle;
+            if (statusCode == 429) {
+                throttle = Throttle.RATE_LIMITED;
+            } else if (statusCode >= 500) {
+                throttle = Throttle.SERVER_ERROR;
+            } else if (this.isLatencyRising(latencyNanos)) {
+                throttle = Throttle.LATENCY;
+            } else {
+                throttle = Throttle.NONE;
+            }
+
+            this.adjust(throttle, now);
+            return throttle;
+        } finally {
+            this.changed.signalAll();
+            this.lock.unlock();
+        }
+    }
+
+    // 연결 실패 등으로 응답을 받지 못한 경우
+    public Throttle releaseOnError() {
+        this.lock.lock();
+        try {
+            this.inFlight--;
+            this.adjust(Throttle.IO_ERROR, System.nanoTime());
+            return Throttle.IO_ERROR;
+        } finally {
+            this.changed.signalAll();
+            this.lock.unlock();
+        }
+    }
+
+    public double getLimit() {
+        this.lock.lock();
+        try {
+            return this.limit;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        this.lock.lock();
+        try {
+            return this.inFlight;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public double getPermitsPerSecond() {
+        return this.settings.permitsPerSecond();
+    }
+
+    private void adjust(Throttle throttle, long now) {
+        if (throttle == Throttle.NONE) {
+            // 한 번의 제한 크기만큼 정상 응답을 받으면 제한이 1 증가함
+            this.limit = Math.min(this.settings.maxConcurrency(), this.limit + 1.0 / this.limit);
+            return;
+        }
+
+        // 같은 혼잡 상황에서 연속으로 들어온 실패 응답 때문에 제한이 한꺼번에 떨어지지 않도록
+        // 평균 응답 시간 안에는 한 번만 줄임
+        if (now - this.lastDecreaseNanos < this.smoothedLatencyNanos) {
+            return;
+        }
+        this.lastDecreaseNanos = now;
+        this.limit = Math.max(this.settings.minConcurrency(), this.limit * this.settings.backoffRatio());
+    }
+
+    private boolean isLatencyRising(long latencyNanos) {
+        this.smoothedLatencyNanos = this.smoothedLatencyNanos == 0
+                ? latencyNanos
+                : this.smoothedLatencyNanos * 0.8 + latencyNanos * 0.2;
+        // 기준 지연 시간은 관측된 최소값을 사용하되, 호스트가 계속 느려진 경우에도 따라가도록 조금씩 올림
+        this.baselineLatencyNanos = Math.min(this.baselineLatencyNanos * 1.001, latencyNanos);
+        return this.smoothedLatencyNanos > this.baselineLatencyNanos * this.settings.latencyTolerance();
+    }
+
+    private void refill(long now) {
+        double elapsedSeconds = (now - this.lastRefillNanos) / 1_000_000_000.0;
+        this.tokens = Math.min(this.settings.burst(), this.tokens + elapsedSeconds * this.settings.permitsPerSecond());
+        this.lastRefillNanos = now;
+    }
+}
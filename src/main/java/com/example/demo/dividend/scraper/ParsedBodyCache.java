@@ -0,0 +1,40 @@
+package com.example.demo.dividend.scraper;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+// HTTP 캐시에서 다시 받은 응답 본문이 이전과 같으면 파싱 결과를 재사용하기 위한 URL별 메모
+// 본문 길이와 CRC32C 값을 함께 비교하며, 최대 개수를 넘으면 가장 오래 사용하지 않은 항목부터 제거함
+class ParsedBodyCache<T> {
+
+    private final Map<String, Entry<T>> entries;
+
+    ParsedBodyCache(int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<T>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    static long hash(byte[] body) {
+        CRC32C crc = new CRC32C();
+        crc.update(body);
+        return ((long) body.length << 32) | crc.getValue();
+    }
+
+    // 같은 본문으로 저장된 결과가 있으면 반환하고, 없거나 본문이 바뀌었으면 null을 반환함
+    synchronized T get(String key, long hash) {
+        Entry<T> entry = this.entries.get(key);
+        return entry != null && entry.hash() == hash ? entry.value() : null;
+    }
+
+    synchronized void put(String key, long hash, T value) {
+        this.entries.put(key, new Entry<>(hash, value));
+    }
+
+    private record Entry<T>(long hash, T value) {
+    }
+}
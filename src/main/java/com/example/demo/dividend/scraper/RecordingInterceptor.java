@@ -0,0 +1,46 @@
+package com.example.demo.dividend.scraper;
+
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.List;
+
+// scraper.mode=record 일 때 실제 Yahoo 응답 본문을 ScrapCorpus에 저장하는 OkHttp 인터셉터
+// 재생 시 어떤 기간이든 응답할 수 있도록 차트는 전체 기간(period1=0) 응답만 저장함
+@Slf4j
+public class RecordingInterceptor implements Interceptor {
+
+    private final ScrapCorpus corpus;
+
+    public RecordingInterceptor(ScrapCorpus corpus) {
+        this.corpus = corpus;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Response response = chain.proceed(chain.request());
+        if (!response.isSuccessful()) {
+            return response;
+        }
+
+        HttpUrl url = chain.request().url();
+        List<String> segments = url.pathSegments();
+        ScrapCorpus.Kind kind;
+        if (segments.contains("chart") && "0".equals(url.queryParameter("period1"))) {
+            kind = ScrapCorpus.Kind.CHART;
+        } else if (segments.contains("quote")) {
+            kind = ScrapCorpus.Kind.QUOTE;
+        } else {
+            return response;
+        }
+
+        // 원래 응답 본문은 그대로 두고 복사본을 저장함
+        String ticker = segments.get(segments.size() - 1);
+        this.corpus.write(ticker, kind, response.peekBody(Long.MAX_VALUE).bytes());
+        log.debug("recorded response -> ticker: {}, kind: {}", ticker, kind);
+        return response;
+    }
+}
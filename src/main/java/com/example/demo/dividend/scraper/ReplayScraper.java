@@ -0,0 +1,84 @@
+package com.example.demo.dividend.scraper;
+
+import com.example.demo.dividend.model.Company;
+import com.example.demo.dividend.model.Dividend;
+import com.example.demo.dividend.model.ScrapedResult;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+// scraper.mode=replay 일 때 네트워크 대신 녹화된 코퍼스로 응답하는 Scraper
+// 파싱 과정은 YahooFinanceScraper와 같고, 설정한 지연 시간을 더해 실제 호출과 비슷한 부하로 재현함
+@Slf4j
+public class ReplayScraper implements Scraper {
+
+    private final ScrapCorpus corpus;
+    private final long latencyMs;
+    private final long jitterMs;
+    private final ChartDividendParser chartDividendParser = new ChartDividendParser();
+    private final CompanyNameExtractor companyNameExtractor = new CompanyNameExtractor();
+
+    public ReplayScraper(ScrapCorpus corpus, long latencyMs, long jitterMs) {
+        this.corpus = corpus;
+        this.latencyMs = latencyMs;
+        this.jitterMs = jitterMs;
+    }
+
+    @Override
+    public Company scrapCompanyByTicker(String ticker) {
+        this.delay();
+        try (Reader reader = new InputStreamReader(this.corpus.open(ticker, ScrapCorpus.Kind.QUOTE), StandardCharsets.UTF_8)) {
+            return new Company(ticker, YahooFinanceScraper.toCompanyName(this.companyNameExtractor.extract(reader), ticker));
+        } catch (NoSuchFileException e) {
+            throw new RuntimeException("녹화된 회사 정보가 없습니다 -> " + ticker);
+        } catch (IOException e) {
+            log.error("failed to replay ticker -> " + ticker, e);
+            throw new RuntimeException("회사 정보 스크래핑 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public ScrapedResult scrap(Company company) {
+        return this.scrapSince(company, null);
+    }
+
+    @Override
+    public ScrapedResult scrapSince(Company company, LocalDateTime since) {
+        this.delay();
+        try (InputStream in = this.corpus.open(company.getTicker(), ScrapCorpus.Kind.CHART)) {
+            // 코퍼스에는 전체 기간이 저장되어 있으므로 증분 요청은 since 이후만 남김
+            List<Dividend> dividends = this.chartDividendParser.parse(in);
+            if (since != null) {
+                dividends.removeIf(e -> !e.getDate().isAfter(since));
+            }
+            return new ScrapedResult(company, dividends);
+        } catch (NoSuchFileException e) {
+            throw new RuntimeException("녹화된 배당금 정보가 없습니다 -> " + company.getTicker());
+        } catch (IOException e) {
+            log.error("failed to replay dividends -> " + company.getTicker(), e);
+            throw new RuntimeException("배당금 데이터 스크래핑 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    // latencyMs ~ latencyMs + jitterMs 사이의 지연 시간을 더함
+    private void delay() {
+        long millis = this.latencyMs + (this.jitterMs > 0 ? ThreadLocalRandom.current().nextLong(this.jitterMs + 1) : 0);
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("replay interrupted", e);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.demo.dividend.scraper;
+
+import com.example.demo.dividend.exception.impl.ScraperUnavailableException;
+import com.example.demo.dividend.model.Company;
+import com.example.demo.dividend.model.ScrapedResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+// 스크래퍼 호출을 서킷 브레이커와 재시도 예산으로 감싸는 Scraper
+// - 업스트림 장애(네트워크 오류, 타임아웃, 429/5xx)만 장애로 판단하고, 잘못된 티커 등은 그대로 전달함
+// - 서킷이 열려 있으면 업스트림을 호출하지 않고 ScraperUnavailableException(503)으로 즉시 실패함
+// - 실패한 호출은 지터가 적용된 지수 백오프로 재시도하되, 전체 재시도 횟수는 재시도 예산으로 제한함
+@Slf4j
+public class ResilientScraper implements Scraper {
+
+    public record RetrySettings(int maxAttempts, long baseDelayMs, long maxDelayMs) {
+    }
+
+    private final Scraper delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final RetryBudget retryBudget;
+    private final RetrySettings retrySettings;
+    private final Counter rejectedCounter;
+    private final Counter retryCounter;
+    private final Counter budgetExhaustedCounter;
+
+    public ResilientScraper(Scraper delegate, CircuitBreaker circuitBreaker, RetryBudget retryBudget,
+                            RetrySettings retrySettings, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.retryBudget = retryBudget;
+        this.retrySettings = retrySettings;
+        this.rejectedCounter = meterRegistry.counter("scraper.circuit.rejected");
+        this.retryCounter = meterRegistry.counter("scraper.retry.attempts");
+        this.budgetExhaustedCounter = meterRegistry.counter("scraper.retry.budget.exhausted");
+        // 0: CLOSED, 1: OPEN, 2: HALF_OPEN
+        Gauge.builder("scraper.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .register(meterRegistry);
+        Gauge.builder("scraper.retry.budget.tokens", retryBudget, RetryBudget::getTokens)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Company scrapCompanyByTicker(String ticker) {
+        return this.call(ticker, () -> this.delegate.scrapCompanyByTicker(ticker));
+    }
+
+    @Override
+    public ScrapedResult scrap(Company company) {
+        return this.call(company.getTicker(), () -> this.delegate.scrap(company));
+    }
+
+    @Override
+    public ScrapedResult scrapSince(Company company, LocalDateTime since) {
+        return this.call(company.getTicker(), () -> this.delegate.scrapSince(company, since));
+    }
+
+    private <T> T call(String ticker, Supplier<T> supplier) {
+        this.retryBudget.onRequest();
+
+        for (int attempt = 1; ; attempt++) {
+            CircuitBreaker.Permit permit = this.circuitBreaker.tryAcquire();
+            if (permit == null) {
+                this.rejectedCounter.increment();
+                log.warn("circuit open, rejecting scraping request -> {}", ticker);
+                throw new ScraperUnavailableException();
+            }
+
+            try {
+                T result = supplier.get();
+                this.circuitBreaker.onSuccess(permit);
+                return result;
+            } catch (RuntimeException e) {
+                // 호출자가 작업을 취소하여 인터럽트된 경우는 업스트림 장애가 아니므로 기록하지 않고 재시도하지도 않음
+                if (Thread.currentThread().isInterrupted() || !isUpstreamFailure(e)) {
+                    this.circuitBreaker.onIgnored(permit);
+                    throw e;
+                }
+                this.circuitBreaker.onFailure(permit);
+
+                if (attempt >= this.retrySettings.maxAttempts()) {
+                    throw e;
+                }
+                if (!this.retryBudget.tryAcquireRetry()) {
+                    this.budgetExhaustedCounter.increment();
+                    log.warn("retry budget exhausted -> {}", ticker);
+                    throw e;
+                }
+                this.retryCounter.increment();
+                log.info("retrying scraping request -> {}, attempt: {}", ticker, attempt + 1);
+                sleepBeforeRetry(attempt, e);
+            }
+        }
+    }
+
+    // full jitter: 0 ~ min(maxDelay, baseDelay * 2^(attempt-1)) 사이에서 무작위로 대기하여 재시도가 한꺼번에 몰리지 않게 함
+    private void sleepBeforeRetry(int attempt, RuntimeException failure) {
+        long cap = Math.min(this.retrySettings.maxDelayMs(),
+                this.retrySettings.baseDelayMs() << Math.min(attempt - 1, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(cap + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw failure;
+        }
+    }
+
+    // 네트워크 오류, 타임아웃, 429/5xx 응답만 업스트림 장애로 판단함
+    static boolean isUpstreamFailure(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof UpstreamStatusException status) {
+                return status.isTransient();
+            }
+            if (cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
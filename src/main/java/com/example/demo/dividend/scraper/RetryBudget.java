@@ -0,0 +1,48 @@
+package com.example.demo.dividend.scraper;
+
+// 전체 요청 대비 재시도 비율을 제한하는 재시도 예산
+// 요청마다 ratio 만큼, 그리고 초당 minPerSecond 만큼 토큰이 쌓이고 재시도할 때마다 토큰 1개를 사용함
+// 업스트림 장애 시 모든 호출이 재시도하면서 부하가 몇 배로 늘어나는 것(retry storm)을 막음
+public class RetryBudget {
+
+    private final double ratio;
+    private final double minPerSecond;
+    private final double maxTokens;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public RetryBudget(double ratio, double minPerSecond, double maxTokens) {
+        this.ratio = ratio;
+        this.minPerSecond = minPerSecond;
+        this.maxTokens = maxTokens;
+        this.tokens = maxTokens;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    // 재시도가 아닌 새 요청마다 호출함
+    public synchronized void onRequest() {
+        this.refill();
+        this.tokens = Math.min(this.maxTokens, this.tokens + this.ratio);
+    }
+
+    public synchronized boolean tryAcquireRetry() {
+        this.refill();
+        if (this.tokens < 1) {
+            return false;
+        }
+        this.tokens -= 1;
+        return true;
+    }
+
+    public synchronized double getTokens() {
+        return this.tokens;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        double elapsedSeconds = (now - this.lastRefillNanos) / 1_000_000_000.0;
+        this.tokens = Math.min(this.maxTokens, this.tokens + elapsedSeconds * this.minPerSecond);
+        this.lastRefillNanos = now;
+    }
+}
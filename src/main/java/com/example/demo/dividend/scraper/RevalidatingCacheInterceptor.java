@@ -0,0 +1,35 @@
+package com.example.demo.dividend.scraper;
+
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+import java.io.IOException;
+
+// Yahoo 응답은 no-store/private 헤더가 붙어 있어 그대로는 디스크 캐시에 저장되지 않음
+// 성공 응답의 캐시 헤더를 재작성하여 저장은 하되, 지정한 시간이 지나면 조건부 요청(ETag/Last-Modified)으로 재검증하게 함
+public class RevalidatingCacheInterceptor implements Interceptor {
+
+    private final int maxAgeSeconds;
+
+    public RevalidatingCacheInterceptor(int maxAgeSeconds) {
+        this.maxAgeSeconds = maxAgeSeconds;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Response response = chain.proceed(chain.request());
+        // 304 응답의 헤더도 저장된 사본에 합쳐지므로 함께 재작성함
+        if (!"GET".equals(chain.request().method()) || (response.code() != 200 && response.code() != 304)) {
+            return response;
+        }
+
+        // max-age가 0이면 매번 서버에 재검증하고, 그 외에는 해당 시간 동안 로컬 사본을 바로 사용함
+        String cacheControl = this.maxAgeSeconds > 0 ? "max-age=" + this.maxAgeSeconds : "no-cache";
+        return response.newBuilder()
+                .header("Cache-Control", cacheControl)
+                .removeHeader("Pragma")
+                .removeHeader("Expires")
+                .removeHeader("Vary")
+                .build();
+    }
+}
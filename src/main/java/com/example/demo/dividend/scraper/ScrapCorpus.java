@@ -0,0 +1,61 @@
+package com.example.demo.dividend.scraper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// 녹화한 Yahoo 응답 본문을 티커별 gzip 파일로 저장하는 로컬 코퍼스
+// <directory>/<TICKER>.quote.html.gz, <directory>/<TICKER>.chart.json.gz 형식으로 저장함
+public class ScrapCorpus {
+
+    public enum Kind {
+        QUOTE("quote.html.gz"), CHART("chart.json.gz");
+
+        private final String suffix;
+
+        Kind(String suffix) {
+            this.suffix = suffix;
+        }
+    }
+
+    private final Path directory;
+
+    public ScrapCorpus(Path directory) {
+        this.directory = directory;
+    }
+
+    public boolean contains(String ticker, Kind kind) {
+        return Files.isRegularFile(this.path(ticker, kind));
+    }
+
+    // 여러 워커가 같은 티커를 동시에 녹화해도 읽는 쪽이 덜 쓴 파일을 보지 않도록 임시 파일에 쓴 뒤 교체함
+    public void write(String ticker, Kind kind, byte[] body) throws IOException {
+        Files.createDirectories(this.directory);
+        Path target = this.path(ticker, kind);
+        Path temp = Files.createTempFile(this.directory, target.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+                out.write(body);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // 압축을 풀면서 읽는 스트림을 반환함, 녹화되지 않은 티커면 NoSuchFileException이 발생함
+    public InputStream open(String ticker, Kind kind) throws IOException {
+        return new GZIPInputStream(Files.newInputStream(this.path(ticker, kind)));
+    }
+
+    private Path path(String ticker, Kind kind) {
+        // BRK-B, ^GSPC 같은 티커도 파일 이름으로 쓸 수 있도록 허용되지 않는 문자를 바꿈
+        String name = ticker.toUpperCase().replaceAll("[^A-Z0-9._-]", "_");
+        return this.directory.resolve(name + "." + kind.suffix);
+    }
+}
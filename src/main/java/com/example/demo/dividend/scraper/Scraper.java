@@ -3,7 +3,10 @@ package com.example.demo.dividend.scraper;
 import com.example.demo.dividend.model.Company;
 import com.example.demo.dividend.model.ScrapedResult;
 
+import java.time.LocalDateTime;
+
 public interface Scraper {
     Company scrapCompanyByTicker(String ticker);
     ScrapedResult scrap(Company company);
-}
\ No newline at end of file
+    ScrapedResult scrapSince(Company company, LocalDateTime since);
+}
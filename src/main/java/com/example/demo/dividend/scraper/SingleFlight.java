@@ -0,0 +1,60 @@
+package com.example.demo.dividend.scraper;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+// 같은 키에 대한 작업이 동시에 요청되면 하나만 실행하고 나머지 호출자는 그 결과를 함께 받음
+// 작업이 끝나면 키를 제거하므로 결과를 캐시하지는 않음
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public V execute(K key, Supplier<V> loader) {
+        return this.execute(key, loader, null);
+    }
+
+    // onShared는 이미 진행 중인 작업에 합류했을 때 호출됨
+    public V execute(K key, Supplier<V> loader, Runnable onShared) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = this.inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            if (onShared != null) {
+                onShared.run();
+            }
+            return await(existing);
+        }
+
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.inFlight.remove(key, call);
+        }
+    }
+
+    int inFlightCount() {
+        return this.inFlight.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            // 먼저 실행한 호출자가 받은 예외를 그대로 전달함
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.demo.dividend.scraper;
+
+import com.example.demo.dividend.model.Company;
+import com.example.demo.dividend.model.ScrapedResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+// 같은 티커에 대한 동시 스크래핑 요청을 하나의 요청으로 합쳐 처리하는 Scraper
+// 회사 등록 API와 스케줄러 모두 이 빈을 통해 스크래퍼를 사용함
+// SingleFlightScraper -> ResilientScraper(서킷 브레이커, 재시도) -> YahooFinanceScraper 순서로 호출됨
+@Slf4j
+@Primary
+@Component
+public class SingleFlightScraper implements Scraper {
+
+    private final Scraper delegate;
+    private final SingleFlight<String, Company> companyCalls = new SingleFlight<>();
+    private final SingleFlight<String, ScrapedResult> dividendCalls = new SingleFlight<>();
+    private final Counter sharedCounter;
+
+    public SingleFlightScraper(@Qualifier("resilientScraper") Scraper delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.sharedCounter = meterRegistry.counter("scraper.singleflight.shared");
+    }
+
+    @Override
+    public Company scrapCompanyByTicker(String ticker) {
+        Company company = this.companyCalls.execute(ticker,
+                () -> this.delegate.scrapCompanyByTicker(ticker), () -> this.onShared(ticker));
+        return new Company(company.getId(), company.getTicker(), company.getName());
+    }
+
+    @Override
+    public ScrapedResult scrap(Company company) {
+        ScrapedResult result = this.dividendCalls.execute(company.getTicker() + "@full",
+                () -> this.delegate.scrap(company), () -> this.onShared(company.getTicker()));
+        return copyFor(company, result);
+    }
+
+    @Override
+    public ScrapedResult scrapSince(Company company, LocalDateTime since) {
+        ScrapedResult result = this.dividendCalls.execute(company.getTicker() + "@" + since,
+                () -> this.delegate.scrapSince(company, since), () -> this.onShared(company.getTicker()));
+        return copyFor(company, result);
+    }
+
+    private void onShared(String ticker) {
+        this.sharedCounter.increment();
+        log.debug("joined in-flight scraping -> {}", ticker);
+    }
+
+    // 결과를 공유한 호출자끼리 서로의 객체를 변경하지 않도록 호출자별로 결과를 복사함
+    private static ScrapedResult copyFor(Company company, ScrapedResult result) {
+        return new ScrapedResult(company, new ArrayList<>(result.getDividends()));
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.demo.dividend.scraper;
+
+import java.io.IOException;
+
+// 업스트림이 실패 상태 코드로 응답한 경우, 상태 코드로 일시적인 장애인지 구분할 수 있도록 함
+class UpstreamStatusException extends IOException {
+
+    private final int statusCode;
+
+    UpstreamStatusException(int statusCode, String url) {
+        super("HTTP error fetching URL. Status=" + statusCode + ", URL=" + url);
+        this.statusCode = statusCode;
+    }
+
+    int getStatusCode() {
+        return this.statusCode;
+    }
+
+    // 요청 속도 제한(429)과 서버 오류(5xx)는 잠시 후 다시 시도하면 성공할 수 있음
+    boolean isTransient() {
+        return this.statusCode == 429 || this.statusCode >= 500;
+    }
+}
@@ -3,68 +3,71 @@ package com.example.demo.dividend.scraper;
 import com.example.demo.dividend.model.Company;
 import com.example.demo.dividend.model.Dividend;
 import com.example.demo.dividend.model.ScrapedResult;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
-import org.jsoup.Connection;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 @Slf4j
 @Component
 public class YahooFinanceScraper implements Scraper {
 
-    private static String BASE_URL = "https://query2.finance.yahoo.com/v8/finance/chart/%s?period1=0&period2=9999999999&interval=1mo&events=div";
-    private static String SUMMARY_URL = "https://finance.yahoo.com/quote/%s";
-
-    private final ObjectMapper objectMapper;
-
-    public YahooFinanceScraper() {
-        this.objectMapper = new ObjectMapper();
+    static final String DEFAULT_CHART_URL = "https://query2.finance.yahoo.com/v8/finance/chart/%s?period1=%d&period2=9999999999&interval=1mo&events=div";
+    static final String DEFAULT_SUMMARY_URL = "https://finance.yahoo.com/quote/%s";
+
+    // 캐시된 응답 본문에 대한 파싱 결과를 보관할 최대 URL 수
+    private static final int PARSED_BODY_CACHE_SIZE = 10_000;
+
+    private final OkHttpClient httpClient;
+    private final HedgedRequests hedgedRequests;
+    private final String chartUrl;
+    private final String summaryUrl;
+    private final ChartDividendParser chartDividendParser;
+    private final ParsedBodyCache<List<Dividend>> parsedDividends;
+    private final CompanyNameExtractor companyNameExtractor;
+
+    // 요청 URL은 설정으로 바꿀 수 있음 (테스트 서버나 프록시를 사용하는 경우)
+    public YahooFinanceScraper(OkHttpClient httpClient, HedgedRequests hedgedRequests,
+                               @Value("${scraper.yahoo.chart-url:" + DEFAULT_CHART_URL + "}") String chartUrl,
+                               @Value("${scraper.yahoo.summary-url:" + DEFAULT_SUMMARY_URL + "}") String summaryUrl) {
+        this.httpClient = httpClient;
+        this.hedgedRequests = hedgedRequests;
+        this.chartUrl = chartUrl;
+        this.summaryUrl = summaryUrl;
+        this.chartDividendParser = new ChartDividendParser();
+        this.parsedDividends = new ParsedBodyCache<>(PARSED_BODY_CACHE_SIZE);
+        this.companyNameExtractor = new CompanyNameExtractor();
     }
 
-    // 테스트용 URL 설정
-    public static void setTestUrls(String summaryUrl, String baseUrl) {
-        SUMMARY_URL = summaryUrl;
-        BASE_URL = baseUrl;
+    @Override
+    public ScrapedResult scrap(Company company) {
+        return this.scrapSince(company, null);
     }
 
     @Override
-    public ScrapedResult scrap(Company company) {
+    public ScrapedResult scrapSince(Company company, LocalDateTime since) {
         var scrapResult = new ScrapedResult(company);
 
-        try {
-            String url = String.format(BASE_URL, company.getTicker());
-            log.info("Scraping URL: {}", url);
-
-            Connection connection = Jsoup.connect(url);
-            Document document = connection.ignoreContentType(true).get();
-            String jsonStr = document.text();
-            log.debug("Received JSON document: {}", jsonStr);
-
-            JsonNode root = objectMapper.readTree(jsonStr);
-            JsonNode events = root.path("chart").path("result").get(0).path("events").path("dividends");
-            
-            List<Dividend> dividends = new ArrayList<>();
-            Iterator<JsonNode> elements = events.elements();
-            
-            while (elements.hasNext()) {
-                JsonNode element = elements.next();
-                long timestamp = element.path("date").asLong();
-                double amount = element.path("amount").asDouble();
-                
-                LocalDateTime date = LocalDateTime.ofEpochSecond(timestamp, 0, ZoneOffset.UTC);
-                dividends.add(new Dividend(date, String.format("%.2f", amount)));
-                log.debug("Parsed dividend: date={}, amount={}", date, amount);
+        // 마지막으로 저장된 배당금 이후 구간만 요청하여 전송량과 파싱량을 줄임
+        long period1 = since == null ? 0 : since.toEpochSecond(ZoneOffset.UTC) + 1;
+        String url = String.format(this.chartUrl, company.getTicker(), period1);
+        log.info("Scraping URL: {}", url);
+
+        // 차트 API는 query1/query2 호스트가 같은 응답을 주므로 응답이 늦으면 다른 호스트로 추가 요청함
+        try (Response response = this.fetch(url, true)) {
+            List<Dividend> dividends = this.readDividends(url, response);
+            if (since != null) {
+                // 월 단위 구간 정렬로 이전 이벤트가 함께 올 수 있으므로 since 이후의 배당금만 남김
+                dividends.removeIf(e -> !e.getDate().isAfter(since));
             }
 
             scrapResult.setDividends(dividends);
@@ -72,7 +75,7 @@ public class YahooFinanceScraper implements Scraper {
 
         } catch (IOException e) {
             log.error("scraping failed -> " + company.getTicker(), e);
-            throw new RuntimeException("배당금 데이터 스크래핑 중 오류가 발생했습니다: " + e.getMessage());
+            throw new RuntimeException("배당금 데이터 스크래핑 중 오류가 발생했습니다: " + e.getMessage(), e);
         }
 
         return scrapResult;
@@ -80,23 +83,72 @@ public class YahooFinanceScraper implements Scraper {
 
     @Override
     public Company scrapCompanyByTicker(String ticker) {
-        String url = String.format(SUMMARY_URL, ticker);
-
-        try {
-            Document document = Jsoup.connect(url).get();
-            Element titleEle = document.getElementsByTag("h1").first();
-            if (titleEle == null) {
-                throw new RuntimeException("회사 정보를 찾을 수 없습니다 -> " + ticker);
-            }
+        String url = String.format(this.summaryUrl, ticker);
 
-            String title = titleEle.text().split(" - ")[1].trim();
+        try (Response response = this.fetch(url, false)) {
+            String title = this.readCompanyName(response, ticker);
             return new Company(ticker, title);
         } catch (IOException e) {
             log.error("failed to scrap ticker -> " + ticker, e);
-            throw new RuntimeException("회사 정보 스크래핑 중 오류가 발생했습니다: " + e.getMessage());
-        } catch (IndexOutOfBoundsException e) {
-            log.error("invalid company ticker -> " + ticker, e);
+            throw new RuntimeException("회사 정보 스크래핑 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    private List<Dividend> readDividends(String url, Response response) throws IOException {
+        if (!isServedFromCache(response)) {
+            // 응답 본문을 문자열로 만들지 않고 스트림에서 바로 배당금 이벤트만 읽어옴
+            return this.chartDividendParser.parse(response.body().byteStream());
+        }
+
+        // 로컬 캐시 적중 또는 304 재검증 응답은 본문 해시가 같으면 파싱을 생략함
+        byte[] body = response.body().bytes();
+        long hash = ParsedBodyCache.hash(body);
+        List<Dividend> cached = this.parsedDividends.get(url, hash);
+        if (cached != null) {
+            log.debug("unchanged cached response, skip parsing -> {}", url);
+            return new ArrayList<>(cached);
+        }
+
+        List<Dividend> dividends = this.chartDividendParser.parse(new ByteArrayInputStream(body));
+        this.parsedDividends.put(url, hash, List.copyOf(dividends));
+        return dividends;
+    }
+
+    // 첫 <h1>의 텍스트만 필요하므로 DOM을 만들지 않고 제목을 찾는 즉시 본문 읽기를 중단함
+    private String readCompanyName(Response response, String ticker) throws IOException {
+        return toCompanyName(this.companyNameExtractor.extract(response.body().charStream()), ticker);
+    }
+
+    // quote 페이지의 제목("AAPL - Apple Inc.")에서 회사명을 꺼냄
+    static String toCompanyName(String heading, String ticker) {
+        if (heading == null) {
+            throw new RuntimeException("회사 정보를 찾을 수 없습니다 -> " + ticker);
+        }
+        String[] parts = heading.split(" - ");
+        if (parts.length < 2) {
+            log.error("invalid company ticker -> {}, heading: {}", ticker, heading);
             throw new RuntimeException("유효하지 않은 회사 티커입니다: " + ticker);
         }
+        return parts[1].trim();
+    }
+
+    // 네트워크에서 새 본문을 받지 않고 디스크 캐시의 본문으로 응답한 경우 (로컬 적중 또는 304)
+    private static boolean isServedFromCache(Response response) {
+        Response networkResponse = response.networkResponse();
+        return response.cacheResponse() != null
+                && (networkResponse == null || networkResponse.code() == 304);
+    }
+
+    // 공유 커넥션 풀을 사용하는 HTTP 클라이언트로 요청하고, 실패 응답은 IOException으로 변환함
+    private Response fetch(String url, boolean hedged) throws IOException {
+        Request request = new Request.Builder().url(url).get().build();
+        Response response = hedged
+                ? this.hedgedRequests.execute(this.httpClient, request)
+                : this.httpClient.newCall(request).execute();
+        if (!response.isSuccessful()) {
+            response.close();
+            throw new UpstreamStatusException(response.code(), url);
+        }
+        return response;
     }
-}
\ No newline at end of file
+}
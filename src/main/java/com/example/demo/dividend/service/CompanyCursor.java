@@ -0,0 +1,65 @@
+package com.example.demo.dividend.service;
+
+import com.example.demo.dividend.exception.impl.InvalidCursorException;
+import com.example.demo.dividend.persist.entity.CompanyEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Locale;
+
+// 회사 목록의 마지막으로 반환한 위치(정렬 기준 값)를 담는 커서
+// 클라이언트에는 내부 구조를 알 수 없도록 Base64(URL-safe)로 인코딩한 문자열로 전달함
+record CompanyCursor(Order order, Long id, String name) {
+
+    enum Order {
+        ID, NAME
+    }
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    // 첫 페이지: 아직 반환한 회사가 없는 위치
+    static CompanyCursor first(String sort) {
+        try {
+            return new CompanyCursor(Order.valueOf(sort.trim().toUpperCase(Locale.ROOT)), null, null);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    static CompanyCursor after(Order order, CompanyEntity last) {
+        return new CompanyCursor(order, last.getId(), order == Order.NAME ? last.getName() : null);
+    }
+
+    boolean isFirst() {
+        return this.id == null;
+    }
+
+    String encode() {
+        // 회사명에 구분자가 포함될 수 있으므로 회사명은 항상 마지막에 둠
+        String raw = VERSION + SEPARATOR + this.order + SEPARATOR + this.id
+                + (this.order == Order.NAME ? SEPARATOR + this.name : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static CompanyCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 4);
+            if (!VERSION.equals(parts[0])) {
+                throw new InvalidCursorException();
+            }
+            Order order = Order.valueOf(parts[1]);
+            long id = Long.parseLong(parts[2]);
+            if (order == Order.NAME) {
+                if (parts.length != 4) {
+                    throw new InvalidCursorException();
+                }
+                return new CompanyCursor(order, id, parts[3]);
+            }
+            return new CompanyCursor(order, id, null);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new InvalidCursorException();
+        }
+    }
+}
@@ -2,34 +2,51 @@ package com.example.demo.dividend.service;
 
 import com.example.demo.dividend.exception.impl.NoCompanyException;
 import com.example.demo.dividend.model.Company;
+import com.example.demo.dividend.model.CursorPage;
 import com.example.demo.dividend.model.ScrapedResult;
+import com.example.demo.dividend.model.constants.CacheKey;
 import com.example.demo.dividend.persist.entity.CompanyEntity;
 import com.example.demo.dividend.persist.entity.DividendEntity;
 import com.example.demo.dividend.persist.repository.CompanyRepository;
 import com.example.demo.dividend.persist.repository.DividendRepository;
+import com.example.demo.dividend.scraper.AsyncScraper;
 import com.example.demo.dividend.scraper.Scraper;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.Trie;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Slf4j
 @Service
 @AllArgsConstructor
 public class CompanyService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final Trie<String, String> trie;
     private final Scraper yahooFinanceScraper;
+    private final AsyncScraper asyncScraper;
     private final CompanyRepository companyRepository;
     private final DividendRepository dividendRepository;
+    private final CacheManager cacheManager;
 
     public Company save(String ticker) {
         log.info("회사 정보 저장 시작 - ticker: {}", ticker);
@@ -46,21 +63,61 @@ public class CompanyService {
         return this.companyRepository.findAll(pageable);
     }
 
+    // 커서 기반 회사 목록 조회, cursor가 없으면 sort(id|name) 순서의 첫 페이지를 조회함
+    // 다음 페이지의 정렬 기준은 커서에 포함되어 있으므로 sort는 첫 페이지에서만 사용됨
+    public CursorPage<CompanyEntity> getCompaniesAfter(String cursor, int size, String sort) {
+        CompanyCursor after = StringUtils.hasText(cursor) ? CompanyCursor.decode(cursor) : CompanyCursor.first(sort);
+        int limit = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        log.debug("커서 기반 회사 목록 조회 - order: {}, after: {}, size: {}", after.order(), after.id(), limit);
+
+        // 다음 페이지가 있는지 알기 위해 한 건 더 조회함
+        Pageable fetch = PageRequest.of(0, limit + 1);
+        List<CompanyEntity> companies = switch (after.order()) {
+            case ID -> this.companyRepository.findByIdGreaterThanOrderByIdAsc(after.isFirst() ? 0L : after.id(), fetch);
+            case NAME -> after.isFirst()
+                    ? this.companyRepository.findByNameNotNullOrderByNameAscIdAsc(fetch)
+                    : this.companyRepository.findNextByName(after.name(), after.id(), fetch);
+        };
+
+        if (companies.size() <= limit) {
+            return new CursorPage<>(companies, null, false);
+        }
+        List<CompanyEntity> content = companies.subList(0, limit);
+        String next = CompanyCursor.after(after.order(), content.get(limit - 1)).encode();
+        return new CursorPage<>(content, next, true);
+    }
+
     private Company storeCompanyAndDividend(String ticker) {
-        // 1. 회사를 스크래핑
-        log.debug("회사 정보 스크래핑 시작 - ticker: {}", ticker);
-        Company company = this.yahooFinanceScraper.scrapCompanyByTicker(ticker);
+        // 1. 회사 정보와 배당금 정보는 서로 의존하지 않으므로 동시에 스크래핑
+        log.debug("회사 및 배당금 정보 스크래핑 시작 - ticker: {}", ticker);
+        CompletableFuture<Company> companyFuture = this.asyncScraper.scrapCompanyByTickerAsync(ticker);
+        CompletableFuture<ScrapedResult> dividendFuture = this.asyncScraper.scrapAsync(new Company(ticker, null));
+
+        // 2. 회사가 존재하지 않으면 배당금 정보는 사용하지 않으므로 진행 중인 배당금 스크래핑을 취소함
+        //    (취소하지 않으면 잘못된 티커를 등록할 때마다 차트 요청이 속도 제한 슬롯을 차지하고 헤지 요청까지 보낼 수 있음)
+        Company company;
+        try {
+            company = join(companyFuture);
+        } catch (RuntimeException | Error e) {
+            dividendFuture.cancel(true);
+            throw e;
+        }
         if (ObjectUtils.isEmpty(company)) {
+            dividendFuture.cancel(true);
             log.error("존재하지 않는 회사입니다. ticker: {}", ticker);
             throw new RuntimeException("failed to scrap ticker -> " + ticker);
         }
-
-        // 2. 회사가 존재할 경우, 회사의 배당금 정보를 스크래핑
-        log.debug("배당금 정보 스크래핑 시작 - company: {}", company.getName());
-        ScrapedResult scrapedResult = this.yahooFinanceScraper.scrap(company);
+        ScrapedResult scrapedResult = join(dividendFuture);
 
         // 3. 스크래핑 결과 반환
-        CompanyEntity companyEntity = this.companyRepository.save(new CompanyEntity(null, company.getTicker(), company.getName()));
+        CompanyEntity companyEntity;
+        try {
+            companyEntity = this.companyRepository.save(new CompanyEntity(null, company.getTicker(), company.getName()));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 티커가 동시에 등록되어 unique 제약 조건에 걸린 경우 중복 등록으로 처리함
+            log.error("이미 존재하는 회사입니다. ticker: {}", ticker);
+            throw new RuntimeException("already exists ticker -> " + ticker);
+        }
         List<DividendEntity> dividendEntities = scrapedResult.getDividends().stream()
                 .map(e -> new DividendEntity(null, companyEntity.getId(), e.getDate(), e.getDividend()))
                 .toList();
@@ -70,12 +127,37 @@ public class CompanyService {
         return company;
     }
 
+    // 저장된 회사의 배당금 정보를 다시 스크래핑하여 새로 생긴 배당금만 저장함
+    public int updateDividends(CompanyEntity company) {
+        // 마지막으로 저장된 배당금 날짜 이후의 배당금만 스크래핑함
+        LocalDateTime latest = this.dividendRepository.findLatestDateByCompanyId(company.getId()).orElse(null);
+        log.debug("배당금 정보 갱신 시작 - ticker: {}, since: {}", company.getTicker(), latest);
+
+        Company target = new Company(company.getId(), company.getTicker(), company.getName());
+        ScrapedResult scrapedResult = latest == null
+                ? this.yahooFinanceScraper.scrap(target)
+                : this.yahooFinanceScraper.scrapSince(target, latest);
+
+        List<DividendEntity> newDividends = scrapedResult.getDividends().stream()
+                .map(e -> new DividendEntity(null, company.getId(), e.getDate(), e.getDividend()))
+                .toList();
+
+        // 임대가 만료된 작업을 다른 노드가 다시 처리하는 등 이미 저장된 배당금이 다시 들어와도 unique 제약 조건에 걸리지 않도록 upsert로 저장함
+        // 이미 있는 배당금은 금액만 갱신됨 (제공처에서 배당금을 정정한 경우)
+        // 캐시는 실제로 저장/갱신된 배당금이 있을 때만 삭제하여, 변경이 없는 날의 갱신 작업이 배당 예상일 기준 TTL을 초기화하지 않게 함
+        if (!newDividends.isEmpty() && this.dividendRepository.upsertAll(newDividends) > 0) {
+            this.evictFinance(company.getName());
+        }
+        log.debug("배당금 정보 갱신 완료 - ticker: {}, new dividends: {}", company.getTicker(), newDividends.size());
+        return newDividends.size();
+    }
+
     public List<String> getCompanyNamesByKeyword(String keyword) {
         log.debug("회사명 자동완성 검색 - keyword: {}", keyword);
         Pageable limit = PageRequest.of(0, 10);
-        Page<CompanyEntity> companyEntities = this.companyRepository.findByNameStartingWithIgnoreCase(keyword, limit);
-        return companyEntities.getContent()
-                .stream()
+        List<CompanyEntity> companyEntities = this.companyRepository.findByNameLowerStartingWithOrderByNameLowerAsc(
+                CompanyEntity.normalizeName(keyword), limit);
+        return companyEntities.stream()
                 .map(CompanyEntity::getName)
                 .toList();
     }
@@ -98,7 +180,9 @@ public class CompanyService {
         this.trie.remove(keyword);
     }
 
-    @CacheEvict(value = "finance", key = "#companyName")
+    // 배당금과 회사 삭제를 하나의 트랜잭션으로 처리하고, 캐시와 자동완성 키워드는 커밋된 후에 정리함
+    @Transactional
+    @CacheEvict(value = CacheKey.KEY_FINANCE, key = "#result")
     public String deleteCompany(String ticker) {
         log.info("회사 정보 삭제 시작 - ticker: {}", ticker);
         var company = this.companyRepository.findByTicker(ticker)
@@ -107,13 +191,46 @@ public class CompanyService {
                     return new NoCompanyException();
                 });
 
-        this.dividendRepository.deleteAllByCompanyId(company.getId());
+        int deleted = this.dividendRepository.deleteAllByCompanyId(company.getId());
         this.companyRepository.delete(company);
-        this.deleteAutocompleteKeyword(company.getName());
-        log.info("회사 정보 삭제 완료 - company: {}", company.getName());
+        afterCommit(() -> this.deleteAutocompleteKeyword(company.getName()));
+        log.info("회사 정보 삭제 완료 - company: {}, dividends: {}", company.getName(), deleted);
         return company.getName();
     }
 
+    private void evictFinance(String companyName) {
+        Cache cache = this.cacheManager.getCache(CacheKey.KEY_FINANCE);
+        if (cache != null) {
+            cache.evict(companyName);
+        }
+    }
+
+    // 트랜잭션 안이면 커밋된 후에, 아니면 바로 실행함
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // CompletionException으로 감싸진 예외를 풀어 동기 호출과 같은 예외가 전달되도록 함
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
     public Optional<Company> findByName(String name) {
         log.debug("회사명으로 회사 정보 검색 - name: {}", name);
         return this.companyRepository.findByName(name)
@@ -5,16 +5,15 @@ import com.example.demo.dividend.model.Company;
 import com.example.demo.dividend.model.Dividend;
 import com.example.demo.dividend.model.ScrapedResult;
 import com.example.demo.dividend.persist.entity.CompanyEntity;
-import com.example.demo.dividend.persist.entity.DividendEntity;
 import com.example.demo.dividend.persist.repository.CompanyRepository;
 import com.example.demo.dividend.persist.repository.DividendRepository;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -24,7 +23,7 @@ public class DividendService {
     private final CompanyRepository companyRepository;
     private final DividendRepository dividendRepository;
 
-    @Cacheable(key = "#companyName", value = "finance")
+    @Cacheable(key = "#companyName", value = "finance", sync = true)
     public ScrapedResult getDividendByCompanyName(String companyName) {
         log.info("search company -> " + companyName);
         // 1. 회사명을 기준으로 회사 정보를 조회
@@ -32,23 +31,18 @@ public class DividendService {
             .orElseThrow(NoCompanyException::new);
 
         // 2. 조회된 회사 ID로 배당금 정보 조회
-        List<DividendEntity> dividendEntities = this.dividendRepository.findAllByCompanyId(company.getId());
+        List<Dividend> dividends = this.dividendRepository.findDividendsByCompanyId(company.getId());
 
         // 3. 결과 조합 후 반환
-        List<Dividend> dividends = dividendEntities.stream()
-            .map(e -> new Dividend(e.getDate(), e.getDividend()))
-            .toList();
-
         return new ScrapedResult(
             new Company(company.getTicker(), company.getName()),
             dividends
         );
     }
 
+    // 배당금은 조회만 하므로 엔티티 대신 Dividend로 바로 조회하고 읽기 전용 트랜잭션으로 처리함
+    @Transactional(readOnly = true)
     public List<Dividend> findAllByCompanyId(Long companyId) {
-        List<DividendEntity> dividendEntities = this.dividendRepository.findAllByCompanyId(companyId);
-        return dividendEntities.stream()
-                .map(e -> new Dividend(e.getDate(), e.getDividend()))
-                .collect(Collectors.toList());
+        return this.dividendRepository.findDividendsByCompanyId(companyId);
     }
 }
\ No newline at end of file
@@ -18,7 +18,10 @@ public class FinanceService {
     private final CompanyService companyService;
     private final DividendService dividendService;
 
-    @Cacheable(key = "#companyName", value = "finance")
+    // 트랜잭션은 캐시 미스로 실제 조회할 때만 필요하므로 여기서 열지 않음 (배당금 조회는 DividendService에서 읽기 전용으로 처리)
+    // 캐시 어드바이스와 트랜잭션 어드바이스의 순서가 정해져 있지 않아, 함께 두면 캐시 히트에도 커넥션을 잡을 수 있음
+    // sync: 캐시가 만료되었을 때 동시에 들어온 요청 중 하나만 DB를 조회하고 나머지는 그 결과를 기다림 (CoalescingCache)
+    @Cacheable(key = "#companyName", value = "finance", sync = true)
     public ScrapedResult getDividendByCompanyName(String companyName) {
         log.info("배당금 정보 조회 시작 - companyName: {}", companyName);
         
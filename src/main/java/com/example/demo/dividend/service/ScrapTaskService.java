@@ -0,0 +1,154 @@
+package com.example.demo.dividend.service;
+
+import com.example.demo.dividend.persist.entity.ScrapTaskEntity;
+import com.example.demo.dividend.persist.entity.ScrapTaskEntity.Status;
+import com.example.demo.dividend.persist.repository.ScrapTaskRepository;
+import com.example.demo.dividend.persist.repository.ScrapTaskRepository.StatusCount;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 배당금 갱신 작업 테이블을 관리함
+// 각 노드는 처리 가능한 만큼만 작업을 임대하므로 빠른 노드가 더 많은 작업을 가져가며 작업이 고르게 분산됨
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScrapTaskService {
+
+    // 임대 후보를 여유 있게 조회한 뒤 섞어서, 여러 노드가 같은 작업을 두고 경쟁하는 일을 줄임
+    private static final int CANDIDATE_FACTOR = 4;
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final ScrapTaskRepository scrapTaskRepository;
+
+    // 한 갱신 주기에서 작업을 시도할 최대 횟수
+    @Value("${scheduler.scrap.queue.max-attempts:5}")
+    private int maxAttempts;
+
+    // 임대 유지 시간, 이 시간 안에 결과를 반영하지 못하면 다른 노드가 작업을 다시 가져감
+    @Value("${scheduler.scrap.queue.lease-seconds:300}")
+    private long leaseSeconds;
+
+    // 재시도 대기 시간의 시작값과 최대값, 실패할 때마다 두 배로 늘어남
+    @Value("${scheduler.scrap.queue.backoff-base-seconds:30}")
+    private long backoffBaseSeconds;
+
+    @Value("${scheduler.scrap.queue.backoff-max-seconds:3600}")
+    private long backoffMaxSeconds;
+
+    // 같은 작업을 다시 등록하기 위한 최소 간격, 여러 노드에서 동시에 실행된 등록을 한 번으로 합침
+    @Value("${scheduler.scrap.queue.requeue-interval-minutes:60}")
+    private long requeueIntervalMinutes;
+
+    // 작업이 없는 회사의 작업을 만들고, 끝난 작업을 새 갱신 주기로 다시 등록함
+    // 다른 노드와 동시에 만들다 충돌한 작업만 건너뛸 수 있도록 작업마다 따로 저장함
+    public int enqueueAll(LocalDateTime now) {
+        int created = 0;
+        for (Long companyId : this.scrapTaskRepository.findCompanyIdsWithoutTask()) {
+            try {
+                this.scrapTaskRepository.saveAndFlush(ScrapTaskEntity.builder()
+                        .companyId(companyId)
+                        .status(Status.PENDING)
+                        .availableAt(now)
+                        .enqueuedAt(now)
+                        .build());
+                created++;
+            } catch (DataIntegrityViolationException e) {
+                // 다른 노드가 먼저 만든 경우
+                log.debug("이미 등록된 갱신 작업입니다. companyId: {}", companyId);
+            }
+        }
+
+        int requeued = this.scrapTaskRepository.requeue(List.of(Status.DONE, Status.FAILED),
+                now, now.minusMinutes(this.requeueIntervalMinutes));
+        return created + requeued;
+    }
+
+    // 최대 limit 개의 작업을 임대하고, 이번 임대에서 실제로 얻은 작업만 반환함
+    @Transactional
+    public List<ScrapTaskEntity> lease(String owner, int limit, LocalDateTime now) {
+        List<Long> candidates = new ArrayList<>(this.scrapTaskRepository.findLeasableIds(
+                now, this.maxAttempts, PageRequest.of(0, limit * CANDIDATE_FACTOR)));
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        Collections.shuffle(candidates);
+
+        String token = UUID.randomUUID().toString();
+        int leased = this.scrapTaskRepository.lease(candidates.subList(0, Math.min(limit, candidates.size())),
+                owner, token, now, now.plusSeconds(this.leaseSeconds), this.maxAttempts);
+        if (leased == 0) {
+            return List.of();
+        }
+        return this.scrapTaskRepository.findAllByLeaseToken(token);
+    }
+
+    @Transactional
+    public void complete(ScrapTaskEntity task, LocalDateTime now) {
+        this.release(task, Status.DONE, now, null);
+    }
+
+    // 최대 시도 횟수 전까지는 지수적으로 늘어나는 대기 시간 뒤에 다시 시도함
+    @Transactional
+    public void fail(ScrapTaskEntity task, Exception cause, LocalDateTime now) {
+        String error = String.valueOf(cause.getMessage());
+        if (error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+
+        if (task.getAttempts() >= this.maxAttempts) {
+            log.warn("최대 시도 횟수 초과로 갱신 작업을 중단합니다. companyId: {}, attempts: {}",
+                    task.getCompanyId(), task.getAttempts());
+            this.release(task, Status.FAILED, now, error);
+            return;
+        }
+        this.release(task, Status.PENDING, now.plus(this.backoff(task.getAttempts())), error);
+    }
+
+    // since 이후 갱신 주기에 등록된 작업 수를 상태별로 반환함 (작업이 없는 상태는 0)
+    public Map<Status, Long> countByStatusSince(LocalDateTime since) {
+        Map<Status, Long> counts = new EnumMap<>(Status.class);
+        for (Status status : Status.values()) {
+            counts.put(status, 0L);
+        }
+        for (StatusCount count : this.scrapTaskRepository.countByStatusEnqueuedSince(since)) {
+            counts.put(count.getStatus(), count.getCount());
+        }
+        return counts;
+    }
+
+    // 삭제된 회사의 작업은 더 이상 처리하지 않음
+    @Transactional
+    public void remove(ScrapTaskEntity task) {
+        this.scrapTaskRepository.deleteById(task.getId());
+    }
+
+    // 여러 작업이 같은 시각에 다시 몰리지 않도록 대기 시간에 지터를 더함
+    Duration backoff(int attempts) {
+        long exponential = this.backoffBaseSeconds << Math.min(attempts - 1, 20);
+        long seconds = Math.min(this.backoffMaxSeconds, exponential);
+        return Duration.ofSeconds(seconds / 2 + ThreadLocalRandom.current().nextLong(seconds / 2 + 1));
+    }
+
+    private void release(ScrapTaskEntity task, Status status, LocalDateTime availableAt, String error) {
+        int updated = this.scrapTaskRepository.release(task.getId(), task.getLeaseToken(), status, availableAt, error);
+        if (updated == 0) {
+            // 임대가 만료되어 다른 노드가 작업을 가져간 경우 그 노드의 결과를 따름
+            log.warn("임대가 만료된 갱신 작업입니다. companyId: {}, owner: {}", task.getCompanyId(), task.getLeaseOwner());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+-- 회사명 조회/자동완성용 인덱스와 소문자로 정규화한 회사명 컬럼을 추가하는 1회성 마이그레이션
+-- ddl-auto: update 로 애플리케이션을 먼저 실행했다면 컬럼과 인덱스는 이미 만들어져 있으므로 2번만 실행하면 됨
+
+-- 1. 컬럼/인덱스 추가 (ddl-auto: update 로 이미 추가된 경우 생략)
+ALTER TABLE company
+    ADD COLUMN name_lower VARCHAR(255);
+
+CREATE INDEX idx_company_name ON company (name);
+CREATE INDEX idx_company_name_lower ON company (name_lower);
+
+-- 2. 기존 회사의 정규화된 회사명 채우기
+--    새로 저장되는 회사는 애플리케이션에서 toLowerCase(Locale.ROOT)로 채움
+UPDATE company
+SET name_lower = LOWER(name)
+WHERE name_lower IS NULL
+  AND name IS NOT NULL;
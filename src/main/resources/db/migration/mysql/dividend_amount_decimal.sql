@@ -0,0 +1,17 @@
+-- 배당금 컬럼을 문자열(VARCHAR)에서 고정 소수점(DECIMAL)으로 변경하는 1회성 마이그레이션
+-- ddl-auto: update 는 기존 컬럼의 타입을 바꾸지 않으므로 운영 DB에서는 직접 실행해야 함
+-- 기존 값은 "0.24" 처럼 String.format("%.2f") 로 저장된 문자열이므로 MySQL이 그대로 숫자로 변환함
+
+-- 1. 숫자로 변환할 수 없는 값이 있는지 먼저 확인함 (결과가 0건이어야 함)
+SELECT id, company_id, date, dividend
+FROM dividend
+WHERE dividend IS NOT NULL
+  AND dividend NOT REGEXP '^-?[0-9]+(\\.[0-9]+)?$';
+
+-- 2. 컬럼 타입 변경
+ALTER TABLE dividend
+    MODIFY COLUMN dividend DECIMAL(19, 6);
+
+-- 3. (선택) 기존 값은 소수점 둘째 자리에서 반올림되어 저장되었으므로,
+--    정확한 금액이 필요하면 배당금을 비우고 스케줄러가 다시 수집하도록 함
+-- DELETE FROM dividend;
@@ -0,0 +1,19 @@
+-- DividendEntity의 id 생성 방식을 IDENTITY에서 시퀀스로 바꾸면서 필요한 1회성 마이그레이션
+-- MySQL에는 시퀀스가 없어 Hibernate가 dividend_seq 테이블(next_val)로 시퀀스를 흉내내므로,
+-- 기존 배당금 id와 겹치지 않도록 다음 값을 현재 최대 id 이후로 맞춰 둠
+-- (allocationSize 50 만큼 앞당겨 할당하므로 최대 id + 51 부터 시작해야 기존 id와 겹치지 않음)
+
+CREATE TABLE IF NOT EXISTS dividend_seq
+(
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+DELETE FROM dividend_seq;
+
+INSERT INTO dividend_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 51
+FROM dividend;
+
+-- 기존 id 컬럼의 AUTO_INCREMENT 속성은 더 이상 사용하지 않으므로 제거함
+ALTER TABLE dividend
+    MODIFY COLUMN id BIGINT NOT NULL;
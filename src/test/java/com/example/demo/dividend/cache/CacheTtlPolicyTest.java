@@ -0,0 +1,87 @@
+package com.example.demo.dividend.cache;
+
+import com.example.demo.dividend.model.Company;
+import com.example.demo.dividend.model.Dividend;
+import com.example.demo.dividend.model.ScrapedResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheTtlPolicyTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 0, 0);
+    private static final Clock CLOCK = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    @Test
+    @DisplayName("배당 주기로 추정한 다음 배당 예상일 + grace까지 유지함")
+    void 다음_배당_예상일까지_유지() {
+        // given
+        CacheTtlPolicy policy = new CacheTtlPolicy(
+                new CacheTtlPolicy.Settings(Duration.ofDays(1), 0, true, Duration.ofDays(1), Duration.ofDays(120)), CLOCK);
+        // 분기 배당, 마지막 배당일 2024-03-15 -> 다음 배당 예상일은 약 3개월 뒤
+        ScrapedResult result = scrapedResult(
+                LocalDateTime.of(2023, 6, 15, 0, 0),
+                LocalDateTime.of(2023, 9, 15, 0, 0),
+                LocalDateTime.of(2023, 12, 15, 0, 0),
+                LocalDateTime.of(2024, 3, 15, 0, 0));
+
+        // when
+        Duration ttl = policy.getTimeToLive("KO", result);
+
+        // then
+        LocalDateTime expected = LocalDateTime.of(2024, 3, 15, 0, 0).plusDays(91).plusDays(1);
+        assertEquals(Duration.between(NOW, expected), ttl);
+    }
+
+    @Test
+    @DisplayName("배당 예상일이 지났거나 추정할 수 없으면 기본 TTL을 사용함")
+    void 예상일이_지났으면_기본_TTL() {
+        // given
+        CacheTtlPolicy policy = new CacheTtlPolicy(
+                new CacheTtlPolicy.Settings(Duration.ofDays(1), 0, true, Duration.ofDays(1), Duration.ofDays(120)), CLOCK);
+        // 반기 배당, 다음 배당 예상일(2024-03-17)이 지났지만 아직 새 배당이 없음
+        ScrapedResult overdue = scrapedResult(
+                LocalDateTime.of(2023, 3, 15, 0, 0),
+                LocalDateTime.of(2023, 9, 15, 0, 0));
+        ScrapedResult single = scrapedResult(LocalDateTime.of(2024, 3, 15, 0, 0));
+
+        // when
+        Duration overdueTtl = policy.getTimeToLive("KO", overdue);
+        Duration singleTtl = policy.getTimeToLive("AAPL", single);
+
+        // then
+        assertEquals(Duration.ofDays(1), overdueTtl);
+        assertEquals(Duration.ofDays(1), singleTtl);
+    }
+
+    @Test
+    @DisplayName("TTL에 기본 TTL * jitter 이하의 무작위 시간을 더함")
+    void 지터_적용() {
+        // given
+        CacheTtlPolicy policy = new CacheTtlPolicy(
+                new CacheTtlPolicy.Settings(Duration.ofMinutes(3), 0.1, false, Duration.ZERO, Duration.ZERO), CLOCK);
+
+        // when & then
+        for (int i = 0; i < 100; i++) {
+            Duration ttl = policy.getTimeToLive("key", "value");
+            assertTrue(ttl.compareTo(Duration.ofMinutes(3)) >= 0);
+            assertTrue(ttl.compareTo(Duration.ofSeconds(198)) < 0);
+        }
+    }
+
+    private static ScrapedResult scrapedResult(LocalDateTime... dates) {
+        List<Dividend> dividends = Arrays.stream(dates)
+                .map(date -> new Dividend(date, new BigDecimal("0.46")))
+                .toList();
+        return new ScrapedResult(new Company("KO", "The Coca-Cola Company"), dividends);
+    }
+}
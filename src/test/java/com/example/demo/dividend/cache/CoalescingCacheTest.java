@@ -0,0 +1,170 @@
+package com.example.demo.dividend.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoalescingCacheTest {
+
+    // 다른 노드가 임대를 가진 상황을 흉내내기 위한 메모리 임대
+    private final Map<String, String> leases = new ConcurrentHashMap<>();
+    private final Map<String, Duration> leaseTtls = new ConcurrentHashMap<>();
+    private final CacheLease lease = new CacheLease() {
+        @Override
+        public boolean tryAcquire(String key, String token, Duration ttl) {
+            if (leases.putIfAbsent(key, token) != null) {
+                return false;
+            }
+            leaseTtls.put(key, ttl);
+            return true;
+        }
+
+        @Override
+        public void release(String key, String token) {
+            leases.remove(key, token);
+        }
+    };
+
+    private ConcurrentMapCache remote;
+    private CoalescingCache cache;
+
+    @BeforeEach
+    void setUp() {
+        this.remote = new ConcurrentMapCache("finance");
+        this.cache = new CoalescingCache(this.remote, this.lease,
+                new CoalescingCache.Settings(Duration.ofSeconds(10), Duration.ofMillis(300), Duration.ofMillis(10)));
+    }
+
+    @Test
+    @DisplayName("같은 키로 동시에 캐시 미스가 나면 한 번만 불러오고 나머지는 그 결과를 받음")
+    void 동시_캐시_미스는_한번만_불러옴() throws Exception {
+        // given
+        int threads = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return this.cache.get("Apple Inc.", () -> {
+                    loads.incrementAndGet();
+                    Thread.sleep(100);
+                    return "dividends";
+                });
+            }));
+        }
+        start.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertEquals("dividends", result.get(5, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        assertEquals(1, loads.get());
+        assertEquals("dividends", this.remote.get("Apple Inc.").get());
+        assertTrue(this.leases.isEmpty());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 임대를 가지고 있으면 직접 불러오지 않고 저장된 값을 기다림")
+    void 다른_노드가_불러오는_중이면_저장된_값을_기다림() throws Exception {
+        // given
+        this.leases.put("finance::Apple Inc.", "other-node");
+        Thread otherNode = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                return;
+            }
+            this.remote.put("Apple Inc.", "from other node");
+        });
+        otherNode.start();
+
+        // when
+        String value = this.cache.get("Apple Inc.", () -> "loaded");
+
+        // then
+        otherNode.join();
+        assertEquals("from other node", value);
+    }
+
+    @Test
+    @DisplayName("soft TTL이 지난 값은 그대로 돌려주고 한 번만 다시 불러와 저장함")
+    void soft_TTL이_지난_값은_돌려주고_다시_불러옴() {
+        // given
+        CoalescingCache refreshing = new CoalescingCache(this.remote, this.lease,
+                new CoalescingCache.Settings(Duration.ofSeconds(10), Duration.ofMillis(300), Duration.ofMillis(10)),
+                CacheTtlPolicy.jittered(Duration.ofMinutes(3), 0), Runnable::run);
+        this.remote.put("Apple Inc.", "stale");
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        String first = refreshing.get("Apple Inc.", () -> "refreshed-" + loads.incrementAndGet());
+        String second = refreshing.get("Apple Inc.", () -> "refreshed-" + loads.incrementAndGet());
+
+        // then
+        assertEquals("stale", first);
+        assertEquals("refreshed-1", second);
+        assertEquals(1, loads.get());
+        assertTrue(this.leases.containsKey("fresh:finance::Apple Inc."));
+    }
+
+    @Test
+    @DisplayName("함께 불러온 키들의 soft TTL에 지터를 더해 갱신 시각을 분산함")
+    void soft_TTL에_지터_적용() {
+        // given
+        CoalescingCache refreshing = new CoalescingCache(this.remote, this.lease,
+                new CoalescingCache.Settings(Duration.ofSeconds(10), Duration.ofMillis(300), Duration.ofMillis(10)),
+                CacheTtlPolicy.jittered(Duration.ofMinutes(3), 0.1), Runnable::run);
+
+        // when
+        for (int i = 0; i < 50; i++) {
+            refreshing.get("company-" + i, () -> "dividends");
+        }
+
+        // then
+        List<Duration> ttls = this.leaseTtls.entrySet().stream()
+                .filter(e -> e.getKey().startsWith("fresh:"))
+                .map(Map.Entry::getValue)
+                .toList();
+        assertEquals(50, ttls.size());
+        for (Duration ttl : ttls) {
+            assertTrue(ttl.compareTo(Duration.ofMinutes(3)) >= 0);
+            assertTrue(ttl.compareTo(Duration.ofSeconds(198)) < 0);
+        }
+        assertTrue(ttls.stream().distinct().count() > 1, "soft TTLs should not all expire at the same time");
+    }
+
+    @Test
+    @DisplayName("임대를 가진 노드가 대기 시간 안에 값을 저장하지 않으면 직접 불러옴")
+    void 임대를_가진_노드가_응답하지_않으면_직접_불러옴() {
+        // given
+        this.leases.put("finance::Apple Inc.", "other-node");
+
+        // when
+        String value = this.cache.get("Apple Inc.", () -> "loaded");
+
+        // then
+        assertEquals("loaded", value);
+        assertEquals("loaded", this.remote.get("Apple Inc.").get());
+        assertEquals("other-node", this.leases.get("finance::Apple Inc."));
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.demo.dividend.cache;
+
+import com.example.demo.dividend.model.Company;
+import com.example.demo.dividend.model.Dividend;
+import com.example.demo.dividend.model.ScrapedResult;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactCacheSerializerTest {
+
+    private final GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer()
+            .configure(objectMapper -> objectMapper.registerModule(new JavaTimeModule()));
+    private final CompactCacheSerializer serializer = new CompactCacheSerializer(this.json, 1024);
+
+    @Test
+    @DisplayName("배당금 정보는 JSON보다 작은 바이너리로 저장되고 같은 값으로 복원됨")
+    void 배당금_정보_바이너리_저장_복원() {
+        // given
+        ScrapedResult result = scrapedResult(40);
+
+        // when
+        byte[] bytes = this.serializer.serialize(result);
+        Object restored = this.serializer.deserialize(bytes);
+
+        // then
+        assertEquals(result, restored);
+        assertTrue(bytes.length * 5 < this.json.serialize(result).length);
+    }
+
+    @Test
+    @DisplayName("압축 기준보다 큰 값은 압축하여 저장하고 같은 값으로 복원됨")
+    void 큰_값은_압축하여_저장() {
+        // given
+        ScrapedResult result = scrapedResult(400);
+        CompactCacheSerializer uncompressed = new CompactCacheSerializer(this.json, Integer.MAX_VALUE);
+
+        // when
+        byte[] bytes = this.serializer.serialize(result);
+
+        // then
+        assertTrue(bytes.length < uncompressed.serialize(result).length);
+        assertEquals(result, this.serializer.deserialize(bytes));
+    }
+
+    @Test
+    @DisplayName("이전 버전에서 JSON으로 저장된 값도 읽을 수 있음")
+    void 기존_JSON_값_읽기() {
+        // given
+        ScrapedResult result = scrapedResult(3);
+        byte[] legacy = this.json.serialize(result);
+
+        // when
+        Object restored = this.serializer.deserialize(legacy);
+
+        // then
+        assertEquals(result, restored);
+    }
+
+    @Test
+    @DisplayName("ScrapedResult가 아닌 값은 JSON으로 저장하고, 알 수 없는 포맷은 캐시 미스로 처리함")
+    void 다른_값과_알수없는_포맷_처리() {
+        // given
+        List<String> names = new ArrayList<>(List.of("Apple Inc.", "Coca-Cola"));
+
+        // when
+        Object restored = this.serializer.deserialize(this.serializer.serialize(names));
+        Object unknown = this.serializer.deserialize(new byte[]{0x1F, 1, 2, 3});
+
+        // then
+        assertEquals(names, restored);
+        assertNull(unknown);
+    }
+
+    private static ScrapedResult scrapedResult(int count) {
+        List<Dividend> dividends = new ArrayList<>();
+        LocalDateTime date = LocalDateTime.of(1990, 2, 15, 0, 0);
+        for (int i = 0; i < count; i++) {
+            dividends.add(new Dividend(date.plusMonths(3L * i), new BigDecimal("0.24").add(BigDecimal.valueOf(i, 4))));
+        }
+        return new ScrapedResult(new Company(1L, "KO", "The Coca-Cola Company"), dividends);
+    }
+}
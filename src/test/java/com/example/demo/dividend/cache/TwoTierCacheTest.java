@@ -0,0 +1,137 @@
+package com.example.demo.dividend.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TwoTierCacheTest {
+
+    private ConcurrentMapCache remote;
+    private List<CacheInvalidation> published;
+    private TwoTierCache cache;
+
+    @BeforeEach
+    void setUp() {
+        this.remote = new ConcurrentMapCache("finance");
+        this.published = new ArrayList<>();
+        this.cache = new TwoTierCache("finance", Caffeine.newBuilder().maximumSize(100).build(),
+                this.remote, "node-a", this.published::add);
+    }
+
+    @Test
+    @DisplayName("Redis에서 찾은 값은 로컬 캐시에 저장되어 다음 조회부터 Redis를 거치지 않음")
+    void 원격_캐시_조회값을_로컬에_저장() {
+        // given
+        this.remote.put("Apple Inc.", "dividends");
+
+        // when
+        Cache.ValueWrapper first = this.cache.get("Apple Inc.");
+        this.remote.evict("Apple Inc.");
+        Cache.ValueWrapper second = this.cache.get("Apple Inc.");
+
+        // then
+        assertEquals("dividends", first.get());
+        assertEquals("dividends", second.get());
+        assertTrue(this.published.isEmpty());
+    }
+
+    @Test
+    @DisplayName("캐시 삭제 시 로컬과 Redis에서 모두 지우고 다른 노드에 무효화 메시지를 발행")
+    void 캐시_삭제시_무효화_메시지_발행() {
+        // given
+        this.cache.put("Apple Inc.", "dividends");
+        this.published.clear();
+
+        // when
+        this.cache.evict("Apple Inc.");
+
+        // then
+        assertNull(this.cache.get("Apple Inc."));
+        assertNull(this.remote.get("Apple Inc."));
+        assertEquals(List.of(CacheInvalidation.evict("node-a", "finance", "Apple Inc.")), this.published);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지는 로컬 캐시만 지우고, 자신이 보낸 메시지는 무시")
+    void 다른_노드의_무효화_메시지_처리() {
+        // given
+        ConcurrentMapCacheManager remoteManager = new ConcurrentMapCacheManager();
+        TwoTierCacheManager manager = new TwoTierCacheManager(remoteManager, Set.of("finance"),
+                new TwoTierCacheManager.LocalSettings(100, Duration.ofMinutes(1)), "node-a", invalidation -> {
+        }, new SimpleMeterRegistry());
+        manager.afterPropertiesSet();
+        Cache finance = manager.getCache("finance");
+        finance.put("Apple Inc.", "dividends");
+        finance.put("Microsoft Corporation", "dividends");
+        // 로컬 캐시에 남아 있는지 확인하기 위해 Redis 쪽 값은 지워 둠
+        remoteManager.getCache("finance").clear();
+
+        // when
+        manager.onMessage(message(CacheInvalidation.evict("node-a", "finance", "Apple Inc.")), null);
+        manager.onMessage(message(CacheInvalidation.evict("node-b", "finance", "Microsoft Corporation")), null);
+
+        // then
+        assertNotNull(finance.get("Apple Inc."));
+        assertNull(finance.get("Microsoft Corporation"));
+    }
+
+    @Test
+    @DisplayName("soft TTL이 지나 백그라운드로 갱신한 값은 로컬 캐시에 반영하고 다른 노드에 무효화 메시지를 발행")
+    void 백그라운드_갱신값_로컬_반영_무효화_메시지_발행() {
+        // given
+        ConcurrentMapCacheManager redisManager = new ConcurrentMapCacheManager();
+        Map<String, String> leases = new ConcurrentHashMap<>();
+        CacheLease lease = new CacheLease() {
+            @Override
+            public boolean tryAcquire(String key, String token, Duration ttl) {
+                return leases.putIfAbsent(key, token) == null;
+            }
+
+            @Override
+            public void release(String key, String token) {
+                leases.remove(key, token);
+            }
+        };
+        CoalescingCacheManager coalescingManager = new CoalescingCacheManager(redisManager, lease,
+                new CoalescingCache.Settings(Duration.ofSeconds(10), Duration.ofMillis(300), Duration.ofMillis(10)),
+                Map.of("finance", CacheTtlPolicy.jittered(Duration.ofMinutes(3), 0)), Runnable::run);
+        TwoTierCacheManager manager = new TwoTierCacheManager(coalescingManager, Set.of("finance"),
+                new TwoTierCacheManager.LocalSettings(100, Duration.ofMinutes(1)), "node-a", this.published::add,
+                new SimpleMeterRegistry());
+        manager.afterPropertiesSet();
+        Cache finance = manager.getCache("finance");
+        // 다른 노드가 저장한 값이라 이 노드의 L1에는 없고, 갱신 표시도 만료된 상태
+        redisManager.getCache("finance").put("Apple Inc.", "stale");
+
+        // when
+        String first = finance.get("Apple Inc.", () -> "refreshed");
+        String second = finance.get("Apple Inc.", () -> "loaded again");
+
+        // then
+        assertEquals("stale", first);
+        assertEquals("refreshed", second);
+        assertEquals("refreshed", redisManager.getCache("finance").get("Apple Inc.").get());
+        assertEquals(List.of(CacheInvalidation.evict("node-a", "finance", "Apple Inc.")), this.published);
+    }
+
+    private static DefaultMessage message(CacheInvalidation invalidation) {
+        return new DefaultMessage("cache:invalidation".getBytes(StandardCharsets.UTF_8),
+                invalidation.encode().getBytes(StandardCharsets.UTF_8));
+    }
+}
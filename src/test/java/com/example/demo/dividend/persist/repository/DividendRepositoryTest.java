@@ -0,0 +1,110 @@
+package com.example.demo.dividend.persist.repository;
+
+import com.example.demo.dividend.TestApplication;
+import com.example.demo.dividend.persist.entity.DividendEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// upsertAll은 데이터베이스별 SQL을 직접 사용하므로 테스트 프로필(H2)에서 실제로 실행하여 확인함
+@SpringBootTest(classes = TestApplication.class)
+@ActiveProfiles("test")
+class DividendRepositoryTest {
+
+    private static final long COMPANY_ID = 1L;
+    private static final LocalDateTime FEB = LocalDateTime.of(2024, 2, 9, 0, 0);
+    private static final LocalDateTime MAY = LocalDateTime.of(2024, 5, 10, 0, 0);
+    private static final LocalDateTime AUG = LocalDateTime.of(2024, 8, 12, 0, 0);
+    private static final LocalDateTime NOV = LocalDateTime.of(2024, 11, 8, 0, 0);
+
+    @Autowired
+    private DividendRepository dividendRepository;
+
+    @AfterEach
+    void cleanup() {
+        dividendRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("이미 있는 배당금은 id를 유지한 채 금액만 갱신하고, 없는 배당금은 새로 저장하며, 금액이 같은 배당금은 세지 않음")
+    void 기존_배당금_갱신_새_배당금_저장() {
+        // given
+        List<DividendEntity> saved = dividendRepository.saveAll(List.of(
+                dividend(FEB, "0.24"),
+                dividend(MAY, "0.25")));
+        Map<LocalDateTime, Long> savedIds = saved.stream()
+                .collect(Collectors.toMap(DividendEntity::getDate, DividendEntity::getId));
+
+        // when
+        int affected = dividendRepository.upsertAll(List.of(
+                dividend(FEB, "0.240"),
+                dividend(MAY, "0.26"),
+                dividend(AUG, "0.25")));
+
+        // then
+        assertEquals(2, affected);
+        Map<LocalDateTime, DividendEntity> rows = byDate();
+        assertEquals(3, rows.size());
+        assertEquals(savedIds.get(FEB), rows.get(FEB).getId());
+        assertEquals(savedIds.get(MAY), rows.get(MAY).getId());
+        assertEquals(0, new BigDecimal("0.24").compareTo(rows.get(FEB).getDividend()));
+        assertEquals(0, new BigDecimal("0.26").compareTo(rows.get(MAY).getDividend()));
+        assertEquals(0, new BigDecimal("0.25").compareTo(rows.get(AUG).getDividend()));
+    }
+
+    @Test
+    @DisplayName("같은 배당금을 다시 저장해도 중복 행이 생기지 않음")
+    void 다시_실행해도_중복_없음() {
+        // given
+        List<DividendEntity> dividends = List.of(dividend(FEB, "0.24"), dividend(MAY, "0.25"));
+        dividendRepository.upsertAll(dividends);
+        Map<LocalDateTime, DividendEntity> first = byDate();
+
+        // when
+        int affected = dividendRepository.upsertAll(dividends);
+
+        // then
+        assertEquals(0, affected);
+        Map<LocalDateTime, DividendEntity> second = byDate();
+        assertEquals(2, dividendRepository.count());
+        assertEquals(first.get(FEB).getId(), second.get(FEB).getId());
+        assertEquals(first.get(MAY).getId(), second.get(MAY).getId());
+    }
+
+    @Test
+    @DisplayName("upsert 이후 saveAll로 저장한 배당금의 id가 upsert로 저장한 id와 겹치지 않음")
+    void upsert_이후_saveAll_id_충돌_없음() {
+        // given
+        dividendRepository.saveAll(List.of(dividend(FEB, "0.24")));
+        dividendRepository.upsertAll(List.of(dividend(MAY, "0.25"), dividend(AUG, "0.25")));
+
+        // when
+        dividendRepository.saveAll(List.of(dividend(NOV, "0.25")));
+
+        // then
+        List<DividendEntity> rows = dividendRepository.findAllByCompanyId(COMPANY_ID);
+        assertEquals(4, rows.size());
+        assertEquals(4, rows.stream().map(DividendEntity::getId).distinct().count());
+    }
+
+    private Map<LocalDateTime, DividendEntity> byDate() {
+        return dividendRepository.findAllByCompanyId(COMPANY_ID).stream()
+                .collect(Collectors.toMap(DividendEntity::getDate, Function.identity()));
+    }
+
+    private static DividendEntity dividend(LocalDateTime date, String amount) {
+        return new DividendEntity(null, COMPANY_ID, date, new BigDecimal(amount));
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.demo.dividend.scheduler;
+
+import com.example.demo.dividend.persist.entity.CompanyEntity;
+import com.example.demo.dividend.persist.entity.ScrapTaskEntity;
+import com.example.demo.dividend.persist.repository.CompanyRepository;
+import com.example.demo.dividend.service.CompanyService;
+import com.example.demo.dividend.service.ScrapTaskService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScraperSchedulerTest {
+
+    @Mock
+    private CompanyRepository companyRepository;
+
+    @Mock
+    private CompanyService companyService;
+
+    @Mock
+    private ScrapTaskService scrapTaskService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ScraperScheduler scraperScheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scraperScheduler = new ScraperScheduler(companyRepository, companyService, scrapTaskService, meterRegistry);
+        ReflectionTestUtils.setField(scraperScheduler, "concurrency", 4);
+        ReflectionTestUtils.setField(scraperScheduler, "progressInterval", 10);
+        ReflectionTestUtils.setField(scraperScheduler, "nodeId", "node-1");
+        scraperScheduler.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scraperScheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("임대한 작업을 처리하면 완료로 표시하고 실행 지표를 기록")
+    void 임대한_작업_처리() {
+        // given
+        List<ScrapTaskEntity> tasks = LongStream.rangeClosed(1, 4).mapToObj(id -> task(id, 1)).toList();
+        when(scrapTaskService.lease(eq("node-1"), eq(4), any())).thenReturn(tasks);
+        when(companyRepository.findById(any())).thenAnswer(invocation -> Optional.of(company(invocation.getArgument(0))));
+        when(companyService.updateDividends(any())).thenReturn(2);
+
+        // when
+        scraperScheduler.pollScrapTasks();
+
+        // then
+        verify(scrapTaskService, timeout(5000).times(4)).complete(any(), any());
+        verify(companyService, times(4)).updateDividends(any());
+        assertEquals(4, meterRegistry.counter("scraper.refresh.companies", "result", "success").count());
+        assertEquals(8, meterRegistry.counter("scraper.refresh.dividends").count());
+    }
+
+    @Test
+    @DisplayName("갱신에 실패한 작업은 재시도 대상으로 반환")
+    void 실패한_작업_재시도() {
+        // given
+        ScrapTaskEntity task = task(2L, 1);
+        when(companyRepository.findById(2L)).thenReturn(Optional.of(company(2L)));
+        RuntimeException error = new RuntimeException("scraping failed");
+        when(companyService.updateDividends(any())).thenThrow(error);
+
+        // when
+        scraperScheduler.process(task);
+
+        // then
+        verify(scrapTaskService).fail(eq(task), eq(error), any());
+        verify(scrapTaskService, never()).complete(any(), any());
+        assertEquals(1, meterRegistry.counter("scraper.refresh.companies", "result", "failure").count());
+        assertEquals(1, meterRegistry.timer("scraper.refresh.company.duration").count());
+    }
+
+    @Test
+    @DisplayName("삭제된 회사의 작업은 스크래핑하지 않고 제거")
+    void 삭제된_회사_작업_제거() {
+        // given
+        ScrapTaskEntity task = task(3L, 1);
+        when(companyRepository.findById(3L)).thenReturn(Optional.empty());
+
+        // when
+        scraperScheduler.process(task);
+
+        // then
+        verify(scrapTaskService).remove(task);
+        verifyNoInteractions(companyService);
+    }
+
+    @Test
+    @DisplayName("등록한 작업이 모두 끝나면 갱신 주기의 실행 시간과 결과를 기록")
+    void 갱신_주기_지표_기록() {
+        // given
+        when(scrapTaskService.enqueueAll(any())).thenReturn(4);
+        when(scrapTaskService.countByStatusSince(any()))
+                .thenReturn(counts(1, 1, 2, 0))
+                .thenReturn(counts(0, 0, 3, 1));
+        scraperScheduler.yahooFinanceScheduling();
+
+        // when
+        scraperScheduler.checkRefreshRun();
+        double progressBeforeDone = meterRegistry.get("scraper.refresh.progress").gauge().value();
+        long runsBeforeDone = meterRegistry.timer("scraper.refresh.duration").count();
+        scraperScheduler.checkRefreshRun();
+        scraperScheduler.checkRefreshRun();
+
+        // then
+        assertEquals(0.5, progressBeforeDone);
+        assertEquals(0, runsBeforeDone);
+        assertEquals(1, meterRegistry.timer("scraper.refresh.duration").count());
+        assertEquals(1.0, meterRegistry.get("scraper.refresh.progress").gauge().value());
+        assertEquals(3, meterRegistry.get("scraper.refresh.run.tasks").tag("status", "done").gauge().value());
+        assertEquals(1, meterRegistry.get("scraper.refresh.run.tasks").tag("status", "failed").gauge().value());
+        // 끝난 주기는 다시 조회하지 않음
+        verify(scrapTaskService, times(2)).countByStatusSince(any());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 이미 등록하여 등록한 작업이 없으면 갱신 주기 지표를 기록하지 않음")
+    void 등록한_작업이_없으면_갱신_주기_미기록() {
+        // given
+        when(scrapTaskService.enqueueAll(any())).thenReturn(0);
+
+        // when
+        scraperScheduler.yahooFinanceScheduling();
+        scraperScheduler.checkRefreshRun();
+
+        // then
+        verify(scrapTaskService, never()).countByStatusSince(any());
+        assertEquals(0, meterRegistry.timer("scraper.refresh.duration").count());
+    }
+
+    @Test
+    @DisplayName("워커가 모두 사용 중이면 작업을 임대하지 않음")
+    void 워커_부족시_임대_생략() {
+        // given
+        ReflectionTestUtils.setField(scraperScheduler, "concurrency", 0);
+
+        // when
+        scraperScheduler.pollScrapTasks();
+
+        // then
+        verify(scrapTaskService, never()).lease(any(), anyInt(), any());
+    }
+
+    private static ScrapTaskEntity task(Long companyId, int attempts) {
+        return ScrapTaskEntity.builder()
+                .id(companyId)
+                .companyId(companyId)
+                .status(ScrapTaskEntity.Status.RUNNING)
+                .attempts(attempts)
+                .leaseOwner("node-1")
+                .leaseToken("token")
+                .build();
+    }
+
+    private static Map<ScrapTaskEntity.Status, Long> counts(long pending, long running, long done, long failed) {
+        return Map.of(ScrapTaskEntity.Status.PENDING, pending, ScrapTaskEntity.Status.RUNNING, running,
+                ScrapTaskEntity.Status.DONE, done, ScrapTaskEntity.Status.FAILED, failed);
+    }
+
+    private static CompanyEntity company(Long id) {
+        return CompanyEntity.builder().id(id).ticker("T" + id).name("Company " + id).build();
+    }
+}
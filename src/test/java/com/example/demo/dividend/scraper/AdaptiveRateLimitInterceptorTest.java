@@ -0,0 +1,113 @@
+package com.example.demo.dividend.scraper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.SocketPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveRateLimitInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MockWebServer mockWebServer;
+    private OkHttpClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockWebServer = new MockWebServer();
+        mockWebServer.start();
+        client = new OkHttpClient.Builder()
+                .addNetworkInterceptor(new AdaptiveRateLimitInterceptor(
+                        new HostRateLimiter.Settings(1000, 100, 8, 1, 32, 0.5, 100), meterRegistry))
+                // 연결 실패 시 자동 재시도로 다음 응답까지 소비하지 않도록 함
+                .retryOnConnectionFailure(false)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    @DisplayName("429/503 응답을 받으면 동시성 제한을 줄이고 제한 발생 횟수를 기록함")
+    void 제한_응답이면_동시성_제한_감소() throws IOException {
+        // given
+        mockWebServer.enqueue(new MockResponse().setResponseCode(429));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+
+        // when
+        execute();
+        double afterRateLimited = limit();
+        execute();
+
+        // then
+        assertEquals(4.0, afterRateLimited);
+        assertEquals(2.0, limit());
+        assertEquals(1.0, throttled("rate_limited"));
+        assertEquals(1.0, throttled("server_error"));
+        assertEquals(0.0, inFlight());
+    }
+
+    @Test
+    @DisplayName("Retry-After 헤더의 시간 동안 다음 요청을 보내지 않음")
+    void Retry_After_동안_대기() throws IOException {
+        // given
+        mockWebServer.enqueue(new MockResponse().setResponseCode(429).setHeader("Retry-After", "1"));
+        mockWebServer.enqueue(new MockResponse().setBody("ok"));
+        execute();
+
+        // when
+        long start = System.nanoTime();
+        execute();
+
+        // then
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 900);
+        assertEquals(2, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    @DisplayName("응답을 받지 못하고 IOException이 발생해도 슬롯을 반환함")
+    void 연결_오류시_슬롯_반환() {
+        // given
+        mockWebServer.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AT_START));
+
+        // when
+        assertThrows(IOException.class, this::execute);
+
+        // then
+        assertEquals(0.0, inFlight());
+        assertEquals(4.0, limit());
+        assertEquals(1.0, throttled("io_error"));
+    }
+
+    private void execute() throws IOException {
+        Request request = new Request.Builder().url(mockWebServer.url("/v8/finance/chart/AAPL")).build();
+        try (Response response = client.newCall(request).execute()) {
+            response.body().string();
+        }
+    }
+
+    private double limit() {
+        return meterRegistry.get("scraper.ratelimit.concurrency.limit").tag("host", mockWebServer.getHostName()).gauge().value();
+    }
+
+    private double inFlight() {
+        return meterRegistry.get("scraper.ratelimit.inflight").tag("host", mockWebServer.getHostName()).gauge().value();
+    }
+
+    private double throttled(String reason) {
+        return meterRegistry.counter("scraper.ratelimit.throttled", "host", mockWebServer.getHostName(), "reason", reason).count();
+    }
+}
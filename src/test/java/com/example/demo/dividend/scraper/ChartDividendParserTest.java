@@ -0,0 +1,92 @@
+package com.example.demo.dividend.scraper;
+
+import com.example.demo.dividend.model.Dividend;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChartDividendParserTest {
+
+    private final ChartDividendParser parser = new ChartDividendParser();
+
+    @Test
+    @DisplayName("시세 데이터는 건너뛰고 배당금 이벤트만 파싱")
+    void 배당금_이벤트만_파싱() throws IOException {
+        // given
+        String json = """
+                {
+                    "chart": {
+                        "result": [{
+                            "meta": {"currency": "USD", "symbol": "AAPL", "validRanges": ["1d", "max"]},
+                            "timestamp": [1706745600, 1709251200, 1711929600],
+                            "events": {
+                                "dividends": {
+                                    "1707436800": {"amount": 0.24, "date": 1707436800},
+                                    "1715299200": {"date": 1715299200, "amount": 0.25}
+                                }
+                            },
+                            "indicators": {"quote": [{"close": [184.4, 180.75, 170.33], "volume": [1, 2, 3]}]}
+                        }],
+                        "error": null
+                    }
+                }
+                """;
+
+        // when
+        List<Dividend> dividends = parse(json);
+
+        // then
+        assertEquals(2, dividends.size());
+        assertEquals(LocalDateTime.of(2024, 2, 9, 0, 0), dividends.get(0).getDate());
+        assertEquals(new BigDecimal("0.24"), dividends.get(0).getDividend());
+        assertEquals(LocalDateTime.of(2024, 5, 10, 0, 0), dividends.get(1).getDate());
+        assertEquals(new BigDecimal("0.25"), dividends.get(1).getDividend());
+    }
+
+    @Test
+    @DisplayName("소수점 셋째 자리 이하의 배당금도 반올림하지 않고 유지")
+    void 배당금_정밀도_유지() throws IOException {
+        // given
+        String json = """
+                {"chart": {"result": [{"events": {"dividends": {
+                    "1707436800": {"amount": 0.0425, "date": 1707436800},
+                    "1715299200": {"amount": 1, "date": 1715299200}
+                }}}], "error": null}}
+                """;
+
+        // when
+        List<Dividend> dividends = parse(json);
+
+        // then
+        assertEquals(new BigDecimal("0.0425"), dividends.get(0).getDividend());
+        assertEquals(new BigDecimal("1.00"), dividends.get(1).getDividend());
+    }
+
+    @Test
+    @DisplayName("배당금 이벤트가 없는 응답은 빈 목록을 반환")
+    void 배당금_이벤트_없음() throws IOException {
+        // given
+        String noEvents = """
+                {"chart": {"result": [{"meta": {"symbol": "BRK-A"}, "timestamp": [1709251200]}], "error": null}}
+                """;
+        String noResult = """
+                {"chart": {"result": null, "error": {"code": "Not Found"}}}
+                """;
+
+        // when & then
+        assertTrue(parse(noEvents).isEmpty());
+        assertTrue(parse(noResult).isEmpty());
+    }
+
+    private List<Dividend> parse(String json) throws IOException {
+        return parser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
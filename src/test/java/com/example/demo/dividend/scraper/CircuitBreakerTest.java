@@ -0,0 +1,104 @@
+package com.example.demo.dividend.scraper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    @Test
+    @DisplayName("실패율이 기준을 넘으면 서킷을 열고 호출을 거절")
+    void 실패율_초과시_서킷_열림() {
+        // given
+        CircuitBreaker breaker = new CircuitBreaker(new CircuitBreaker.Settings(10, 4, 0.5, 60_000, 1));
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            breaker.onSuccess(acquire(breaker));
+        }
+        for (int i = 0; i < 2; i++) {
+            breaker.onFailure(acquire(breaker));
+        }
+
+        // then
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertNull(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("대기 시간이 지나면 시험 호출만 허용하고, 모두 성공하면 서킷을 닫음")
+    void 시험_호출_성공시_서킷_닫힘() throws InterruptedException {
+        // given
+        CircuitBreaker breaker = openBreaker(2);
+        Thread.sleep(30);
+
+        // when
+        CircuitBreaker.Permit first = acquire(breaker);
+        CircuitBreaker.Permit second = acquire(breaker);
+        assertNull(breaker.tryAcquire(), "only the configured number of probes may run");
+        breaker.onSuccess(first);
+        breaker.onSuccess(second);
+
+        // then
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertNotNull(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 서킷을 다시 열고, 무관한 실패는 시험 슬롯만 반환")
+    void 시험_호출_실패시_서킷_다시_열림() throws InterruptedException {
+        // given
+        CircuitBreaker breaker = openBreaker(1);
+        Thread.sleep(30);
+
+        // when
+        breaker.onIgnored(acquire(breaker));
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        breaker.onFailure(acquire(breaker));
+
+        // then
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertNull(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("CLOSED 상태에서 보낸 호출이 HALF_OPEN 상태에서 끝나면 시험 호출 결과로 반영하지 않음")
+    void 이전_상태의_호출_결과_무시() throws InterruptedException {
+        // given
+        CircuitBreaker breaker = new CircuitBreaker(new CircuitBreaker.Settings(10, 1, 0.5, 20, 1));
+        CircuitBreaker.Permit slowSuccess = acquire(breaker);
+        CircuitBreaker.Permit slowFailure = acquire(breaker);
+        CircuitBreaker.Permit slowIgnored = acquire(breaker);
+        breaker.onFailure(acquire(breaker));
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        Thread.sleep(30);
+        CircuitBreaker.Permit probe = acquire(breaker);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        // when
+        breaker.onSuccess(slowSuccess);
+        breaker.onIgnored(slowIgnored);
+        breaker.onFailure(slowFailure);
+
+        // then
+        // 시험 호출 슬롯은 그대로 차지된 상태이고, 이전 호출의 성공/실패로 닫히거나 다시 열리지 않음
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertNull(breaker.tryAcquire(), "stale completions must not free probe slots");
+        breaker.onSuccess(probe);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    private static CircuitBreaker.Permit acquire(CircuitBreaker breaker) {
+        CircuitBreaker.Permit permit = breaker.tryAcquire();
+        assertNotNull(permit);
+        return permit;
+    }
+
+    private static CircuitBreaker openBreaker(int probes) {
+        CircuitBreaker breaker = new CircuitBreaker(new CircuitBreaker.Settings(10, 1, 0.5, 20, probes));
+        breaker.onFailure(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        return breaker;
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.demo.dividend.scraper;
+
+import org.jsoup.Jsoup;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompanyNameExtractorTest {
+
+    private final CompanyNameExtractor extractor = new CompanyNameExtractor();
+
+    @Test
+    @DisplayName("속성과 하위 태그가 있는 h1에서 텍스트만 추출")
+    void 하위_태그_텍스트_추출() throws IOException {
+        // given
+        String html = """
+                <html><head><title>AAPL</title><style>h1 > span { color: red }</style></head>
+                <body><h2>Markets</h2><h1 class="yf-xxbei9" data-title="a > b">
+                    AAPL - <span>Apple Inc. &amp; Co</span>
+                </h1><h1>second</h1></body></html>
+                """;
+
+        // when
+        String title = extractor.extract(new StringReader(html));
+
+        // then
+        assertEquals("AAPL - Apple Inc. & Co", title);
+    }
+
+    @Test
+    @DisplayName("스크립트, 스타일, 주석, 속성 값 안의 <h1>은 건너뛰고 실제 h1을 추출")
+    void 원문_텍스트_요소_안의_h1_무시() throws IOException {
+        // given
+        String html = """
+                <html><head><title>AAPL <h1>title</h1></title>
+                <script>var s="<h1>x</h1>"; if (a <h1) {}</script>
+                <script type="application/json">{"html":"<H1 class='x'>json</H1>"}</script >
+                <style>/* <h1>style</h1> */</style>
+                <!-- <h1>comment</h1> -->
+                </head><body><div data-template="<h1>attr</h1>"></div>
+                <h1>AAPL - Apple <!-- <b>x</b> -->Inc.</h1></body></html>
+                """;
+
+        // when
+        String title = extractor.extract(new StringReader(html));
+
+        // then
+        assertEquals("AAPL - Apple Inc.", title);
+        assertEquals(Jsoup.parse(html).getElementsByTag("h1").first().text(), title);
+    }
+
+    @Test
+    @DisplayName("h1이 없으면 null 반환")
+    void h1_없음() throws IOException {
+        // when
+        String title = extractor.extract(new StringReader("<html><h10>x</h10><h2>AAPL - Apple Inc.</h2></html>"));
+
+        // then
+        assertNull(title);
+    }
+
+    @Test
+    @DisplayName("제목을 찾으면 나머지 본문은 읽지 않음")
+    void 제목_이후_본문_읽지_않음() throws IOException {
+        // given
+        // 제목 뒤에 끝없이 이어지는 본문을 흉내냄
+        Reader endless = new Reader() {
+            private final String head = "<html><h1>MSFT - Microsoft Corporation</h1>";
+            private int position;
+
+            @Override
+            public int read(char[] cbuf, int off, int len) {
+                int count = 0;
+                while (count < len) {
+                    cbuf[off + count++] = position < head.length() ? head.charAt(position) : 'x';
+                    position++;
+                }
+                if (position > 1024 * 1024) {
+                    throw new IllegalStateException("read past the title");
+                }
+                return count;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        // when
+        String title = extractor.extract(endless);
+
+        // then
+        assertEquals("MSFT - Microsoft Corporation", title);
+    }
+}
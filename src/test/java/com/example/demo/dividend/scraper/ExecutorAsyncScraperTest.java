@@ -0,0 +1,83 @@
+package com.example.demo.dividend.scraper;
+
+import com.example.demo.dividend.model.Company;
+import com.example.demo.dividend.model.ScrapedResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExecutorAsyncScraperTest {
+
+    @Mock
+    private Scraper scraper;
+
+    private ExecutorAsyncScraper asyncScraper;
+
+    @AfterEach
+    void tearDown() {
+        asyncScraper.shutdown();
+    }
+
+    @Test
+    @DisplayName("반환한 future를 취소하면 실행 중인 스크래핑 스레드를 인터럽트함")
+    void 취소하면_실행_중인_작업_인터럽트() throws Exception {
+        // given
+        asyncScraper = new ExecutorAsyncScraper(scraper, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(scraper.scrap(any())).thenAnswer(invocation -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return new ScrapedResult(invocation.getArgument(0), List.of());
+        });
+
+        CompletableFuture<ScrapedResult> future = asyncScraper.scrapAsync(new Company("AAPL", null));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // when
+        future.cancel(true);
+
+        // then
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("실행 전에 취소된 작업은 스크래퍼를 호출하지 않음")
+    void 대기_중에_취소하면_실행하지_않음() throws Exception {
+        // given
+        asyncScraper = new ExecutorAsyncScraper(scraper, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(scraper.scrapCompanyByTicker("AAPL")).thenAnswer(invocation -> {
+            release.await();
+            return new Company("AAPL", "Apple Inc.");
+        });
+        CompletableFuture<Company> running = asyncScraper.scrapCompanyByTickerAsync("AAPL");
+        CompletableFuture<ScrapedResult> queued = asyncScraper.scrapAsync(new Company("INVALID", null));
+
+        // when
+        queued.cancel(true);
+        release.countDown();
+
+        // then
+        assertEquals("Apple Inc.", running.get(5, TimeUnit.SECONDS).getName());
+        asyncScraper.shutdown();
+        verify(scraper, never()).scrap(any());
+    }
+}
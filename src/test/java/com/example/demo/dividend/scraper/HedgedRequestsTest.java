@@ -0,0 +1,193 @@
+package com.example.demo.dividend.scraper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HedgedRequestsTest {
+
+    private final OkHttpClient client = new OkHttpClient();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MockWebServer mockWebServer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockWebServer = new MockWebServer();
+        mockWebServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    @DisplayName("첫 응답이 대기 시간을 넘기면 대체 호스트로 보낸 요청의 응답을 사용")
+    void 느린_응답_헤지_요청() throws IOException {
+        // given
+        // 같은 서버를 localhost와 127.0.0.1 두 호스트 이름으로 호출함
+        HedgedRequests hedgedRequests = hedgedRequests("127.0.0.1");
+        mockWebServer.enqueue(new MockResponse().setBody("slow").setHeadersDelay(2, TimeUnit.SECONDS));
+        mockWebServer.enqueue(new MockResponse().setBody("fast"));
+
+        // when
+        long start = System.nanoTime();
+        try (Response response = hedgedRequests.execute(client, request())) {
+
+            // then
+            assertEquals("fast", response.body().string());
+            assertEquals("127.0.0.1", response.request().url().host());
+        }
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1500);
+        assertEquals(1.0, meterRegistry.counter("scraper.hedge.sent").count());
+        assertEquals(1.0, meterRegistry.counter("scraper.hedge.wins").count());
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 응답하면 추가 요청을 보내지 않음")
+    void 빠른_응답_헤지_생략() throws IOException {
+        // given
+        HedgedRequests hedgedRequests = hedgedRequests("127.0.0.1");
+        mockWebServer.enqueue(new MockResponse().setBody("fast"));
+
+        // when
+        try (Response response = hedgedRequests.execute(client, request())) {
+
+            // then
+            assertEquals("fast", response.body().string());
+        }
+        assertEquals(1, mockWebServer.getRequestCount());
+        assertEquals(1.0, meterRegistry.counter("scraper.hedge.calls").count());
+        assertEquals(0.0, meterRegistry.counter("scraper.hedge.sent").count());
+    }
+
+    @Test
+    @DisplayName("충분한 표본이 모이면 관측된 백분위수 지연 시간을 대기 시간으로 사용")
+    void 백분위수_대기_시간() {
+        // given
+        HedgedRequests hedgedRequests = hedgedRequests("127.0.0.1");
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(200), hedgedRequests.hedgeDelayNanos());
+
+        // when
+        for (int i = 1; i <= 100; i++) {
+            hedgedRequests.recordLatency(TimeUnit.MILLISECONDS.toNanos(i * 10L));
+        }
+
+        // then
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(950), hedgedRequests.hedgeDelayNanos());
+    }
+
+    @Test
+    @DisplayName("추가 요청이 이겨 취소된 느린 첫 요청도 대기 시간 이상으로 기록되어 대기 시간이 줄어들지 않음")
+    void 취소된_느린_첫_요청_지연_시간_기록() throws IOException {
+        // given
+        // 응답의 85%는 10ms, 15%는 대기 시간(200ms)보다 느린 분포
+        HedgedRequests hedgedRequests = new HedgedRequests(
+                new HedgedRequests.Settings(true, "127.0.0.1", 20, 0.9, 1.0, 10), meterRegistry);
+        recordLatencies(hedgedRequests, 17, 10);
+        recordLatencies(hedgedRequests, 3, 200);
+        long delay = hedgedRequests.hedgeDelayNanos();
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(200), delay);
+
+        // when
+        // 같은 분포의 요청이 이어지지만 느린 첫 요청은 매번 추가 요청에 져서 취소됨
+        for (int fast : new int[]{6, 6, 5}) {
+            recordLatencies(hedgedRequests, fast, 10);
+            mockWebServer.enqueue(new MockResponse().setBody("slow").setHeadersDelay(2, TimeUnit.SECONDS));
+            mockWebServer.enqueue(new MockResponse().setBody("fast"));
+            try (Response response = hedgedRequests.execute(client, request())) {
+                assertEquals("fast", response.body().string());
+            }
+        }
+
+        // then
+        assertEquals(3.0, meterRegistry.counter("scraper.hedge.wins").count());
+        assertTrue(hedgedRequests.hedgeDelayNanos() >= delay,
+                "hedge delay should not drift below the slow primary latency");
+    }
+
+    @Test
+    @DisplayName("속도 제한기에서 기다린 시간은 대기 시간에 포함하지 않아, 제한기를 통과한 뒤 빨리 응답하면 추가 요청을 보내지 않음")
+    void 속도_제한_대기중_헤지_생략() throws IOException {
+        // given
+        HedgedRequests hedgedRequests = hedgedRequests("127.0.0.1");
+        // 호스트의 속도 제한기가 대기 시간(200ms)보다 오래 요청을 붙잡고 있는 상황
+        OkHttpClient throttledClient = client.newBuilder()
+                .addNetworkInterceptor(chain -> {
+                    try {
+                        Thread.sleep(500);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new InterruptedIOException();
+                    }
+                    return chain.proceed(chain.request());
+                })
+                .addNetworkInterceptor(hedgedRequests.admissionInterceptor())
+                .build();
+        mockWebServer.enqueue(new MockResponse().setBody("primary").setHeadersDelay(50, TimeUnit.MILLISECONDS));
+
+        // when
+        try (Response response = hedgedRequests.execute(throttledClient, request())) {
+
+            // then
+            assertEquals("primary", response.body().string());
+        }
+        assertEquals(1, mockWebServer.getRequestCount());
+        assertEquals(0.0, meterRegistry.counter("scraper.hedge.sent").count());
+    }
+
+    @Test
+    @DisplayName("추가 요청 예산을 다 쓰면 느린 요청도 추가 요청 없이 첫 응답을 기다림")
+    void 헤지_예산_초과시_헤지_생략() throws IOException {
+        // given
+        // 요청마다 쌓이는 예산이 없고 처음 한 번만 추가 요청을 보낼 수 있는 설정
+        HedgedRequests hedgedRequests = new HedgedRequests(
+                new HedgedRequests.Settings(true, "127.0.0.1", 100, 0.95, 0, 0), meterRegistry);
+        mockWebServer.enqueue(new MockResponse().setBody("slow").setHeadersDelay(1, TimeUnit.SECONDS));
+        mockWebServer.enqueue(new MockResponse().setBody("fast"));
+        mockWebServer.enqueue(new MockResponse().setBody("slow again").setHeadersDelay(300, TimeUnit.MILLISECONDS));
+
+        // when
+        String first;
+        String second;
+        try (Response response = hedgedRequests.execute(client, request())) {
+            first = response.body().string();
+        }
+        try (Response response = hedgedRequests.execute(client, request())) {
+            second = response.body().string();
+        }
+
+        // then
+        assertEquals("fast", first);
+        assertEquals("slow again", second);
+        assertEquals(1.0, meterRegistry.counter("scraper.hedge.sent").count());
+        assertEquals(1.0, meterRegistry.counter("scraper.hedge.skipped").count());
+    }
+
+    private static void recordLatencies(HedgedRequests hedgedRequests, int count, long latencyMs) {
+        for (int i = 0; i < count; i++) {
+            hedgedRequests.recordLatency(TimeUnit.MILLISECONDS.toNanos(latencyMs));
+        }
+    }
+
+    private HedgedRequests hedgedRequests(String alternateHost) {
+        return new HedgedRequests(new HedgedRequests.Settings(true, alternateHost, 200, 0.95, 1.0, 10), meterRegistry);
+    }
+
+    private Request request() {
+        return new Request.Builder().url(mockWebServer.url("/v8/finance/chart/AAPL").newBuilder().host("localhost").build()).build();
+    }
+}
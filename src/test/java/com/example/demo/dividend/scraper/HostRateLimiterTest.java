@@ -0,0 +1,102 @@
+package com.example.demo.dividend.scraper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HostRateLimiterTest {
+
+    private static final long LATENCY = TimeUnit.MILLISECONDS.toNanos(50);
+
+    @Test
+    @DisplayName("429 응답을 받으면 동시성 제한을 줄이고 정상 응답이면 다시 늘림")
+    void AIMD_동시성_제한_조정() throws InterruptedException {
+        // given
+        HostRateLimiter limiter = new HostRateLimiter(settings(1000, 100, 8));
+
+        // when
+        limiter.acquire();
+        HostRateLimiter.Throttle throttle = limiter.release(429, LATENCY, 0);
+
+        // then
+        assertEquals(HostRateLimiter.Throttle.RATE_LIMITED, throttle);
+        assertEquals(4.0, limiter.getLimit());
+
+        for (int i = 0; i < 4; i++) {
+            limiter.acquire();
+            assertEquals(HostRateLimiter.Throttle.NONE, limiter.release(200, LATENCY, 0));
+        }
+        assertTrue(limiter.getLimit() > 4.9 && limiter.getLimit() < 5.1, "limit should grow by about one per window");
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("동시성 제한에 도달하면 슬롯이 반환될 때까지 대기")
+    void 동시성_제한_대기() throws Exception {
+        // given
+        HostRateLimiter limiter = new HostRateLimiter(settings(1000, 100, 1));
+        limiter.acquire();
+
+        // when
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> {
+            try {
+                limiter.acquire();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // then
+        assertThrows(TimeoutException.class, () -> second.get(100, TimeUnit.MILLISECONDS));
+        limiter.release(200, LATENCY, 0);
+        second.get(1, TimeUnit.SECONDS);
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("버킷의 토큰을 모두 사용하면 충전 속도에 맞춰 요청을 보냄")
+    void 토큰_버킷_속도_제한() throws InterruptedException {
+        // given
+        HostRateLimiter limiter = new HostRateLimiter(settings(20, 1, 8));
+
+        // when
+        long start = System.nanoTime();
+        for (int i = 0; i < 4; i++) {
+            limiter.acquire();
+            limiter.release(200, LATENCY, 0);
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then
+        assertTrue(elapsedMs >= 140, "3 refills at 20/s should take about 150ms but took " + elapsedMs + "ms");
+    }
+
+    @Test
+    @DisplayName("지연 시간이 기준보다 크게 늘어나면 혼잡으로 판단")
+    void 지연_증가_감지() throws InterruptedException {
+        // given
+        HostRateLimiter limiter = new HostRateLimiter(settings(1000, 100, 8));
+        limiter.acquire();
+        limiter.release(200, LATENCY, 0);
+
+        // when
+        HostRateLimiter.Throttle throttle = HostRateLimiter.Throttle.NONE;
+        for (int i = 0; i < 10 && throttle == HostRateLimiter.Throttle.NONE; i++) {
+            limiter.acquire();
+            throttle = limiter.release(200, LATENCY * 10, 0);
+        }
+
+        // then
+        assertEquals(HostRateLimiter.Throttle.LATENCY, throttle);
+        assertTrue(limiter.getLimit() < 8);
+    }
+
+    private static HostRateLimiter.Settings settings(double permitsPerSecond, double burst, int initialConcurrency) {
+        return new HostRateLimiter.Settings(permitsPerSecond, burst, initialConcurrency, 1, 32, 0.5, 2.0);
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.demo.dividend.scraper;
+
+import com.example.demo.dividend.model.Company;
+import com.example.demo.dividend.model.ScrapedResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayScraperTest {
+
+    private static final String CHART_JSON = """
+            {"chart": {"result": [{"events": {"dividends": {
+                "1707436800": {"amount": 0.24, "date": 1707436800},
+                "1715299200": {"amount": 0.25, "date": 1715299200}
+            }}}]}}
+            """;
+
+    @TempDir
+    Path corpusDir;
+
+    @Test
+    @DisplayName("녹화 모드로 받은 응답을 네트워크 없이 그대로 재생")
+    void 녹화_후_재생() throws IOException {
+        // given
+        ScrapCorpus corpus = new ScrapCorpus(corpusDir);
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setBody("<html><h1>AAPL - Apple Inc.</h1>" + "x".repeat(10_000) + "</html>"));
+            server.enqueue(new MockResponse().setBody(CHART_JSON));
+            server.enqueue(new MockResponse().setBody(CHART_JSON));
+            server.start();
+
+            String baseUrl = "http://localhost:" + server.getPort();
+            YahooFinanceScraper recorder = new YahooFinanceScraper(
+                    new OkHttpClient.Builder().addInterceptor(new RecordingInterceptor(corpus)).build(),
+                    new HedgedRequests(HedgedRequests.Settings.DISABLED, new SimpleMeterRegistry()),
+                    baseUrl + "/v8/finance/chart/%s?period1=%d", baseUrl + "/quote/%s");
+
+            Company company = recorder.scrapCompanyByTicker("AAPL");
+            recorder.scrap(company);
+            // 증분 요청은 전체 기간이 아니므로 녹화하지 않음
+            recorder.scrapSince(new Company("MSFT", "Microsoft"), LocalDateTime.of(2024, 1, 1, 0, 0));
+        }
+
+        // when
+        ReplayScraper replay = new ReplayScraper(corpus, 0, 0);
+        Company company = replay.scrapCompanyByTicker("AAPL");
+        ScrapedResult incremental = replay.scrapSince(company, LocalDateTime.of(2024, 2, 9, 0, 0));
+
+        // then
+        assertTrue(corpus.contains("AAPL", ScrapCorpus.Kind.QUOTE));
+        assertTrue(corpus.contains("AAPL", ScrapCorpus.Kind.CHART));
+        assertFalse(corpus.contains("MSFT", ScrapCorpus.Kind.CHART));
+        assertEquals("Apple Inc.", company.getName());
+        assertEquals(2, replay.scrap(company).getDividends().size());
+        assertEquals(1, incremental.getDividends().size());
+        assertEquals(new BigDecimal("0.25"), incremental.getDividends().get(0).getDividend());
+    }
+
+    @Test
+    @DisplayName("설정한 지연 시간을 더해 응답하고, 녹화되지 않은 티커는 예외")
+    void 지연_시간_주입과_미녹화_티커() throws IOException {
+        // given
+        ScrapCorpus corpus = new ScrapCorpus(corpusDir);
+        corpus.write("BRK-B", ScrapCorpus.Kind.CHART, CHART_JSON.getBytes(StandardCharsets.UTF_8));
+        ReplayScraper replay = new ReplayScraper(corpus, 50, 0);
+
+        // when
+        long start = System.nanoTime();
+        ScrapedResult result = replay.scrap(new Company("BRK-B", "Berkshire Hathaway"));
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        assertEquals(2, result.getDividends().size());
+        assertTrue(elapsedMs >= 50, "replay should inject the configured latency but took " + elapsedMs + "ms");
+        assertThrows(RuntimeException.class, () -> replay.scrapCompanyByTicker("UNKNOWN"));
+    }
+}
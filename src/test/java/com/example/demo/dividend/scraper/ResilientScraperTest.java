@@ -0,0 +1,133 @@
+package com.example.demo.dividend.scraper;
+
+import com.example.demo.dividend.exception.impl.ScraperUnavailableException;
+import com.example.demo.dividend.model.Company;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ResilientScraperTest {
+
+    @Mock
+    private Scraper delegate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ResilientScraper scraper;
+
+    @BeforeEach
+    void setUp() {
+        scraper = resilientScraper(new CircuitBreaker(new CircuitBreaker.Settings(20, 10, 0.5, 60_000, 1)),
+                new RetryBudget(0.1, 0, 10));
+    }
+
+    @Test
+    @DisplayName("타임아웃은 재시도하여 성공한 결과를 반환")
+    void 일시적_장애_재시도() {
+        // given
+        Company company = new Company("AAPL", "Apple Inc.");
+        when(delegate.scrapCompanyByTicker("AAPL"))
+                .thenThrow(upstreamFailure())
+                .thenReturn(company);
+
+        // when
+        Company result = scraper.scrapCompanyByTicker("AAPL");
+
+        // then
+        assertSame(company, result);
+        verify(delegate, times(2)).scrapCompanyByTicker("AAPL");
+        assertEquals(1.0, meterRegistry.counter("scraper.retry.attempts").count());
+    }
+
+    @Test
+    @DisplayName("잘못된 티커나 404 응답은 재시도하지 않음")
+    void 업스트림_장애가_아니면_재시도하지_않음() {
+        // given
+        when(delegate.scrapCompanyByTicker("INVALID")).thenThrow(new RuntimeException("회사 정보 스크래핑 중 오류가 발생했습니다",
+                new UpstreamStatusException(404, "https://finance.yahoo.com/quote/INVALID")));
+
+        // when & then
+        assertThrows(RuntimeException.class, () -> scraper.scrapCompanyByTicker("INVALID"));
+        verify(delegate, times(1)).scrapCompanyByTicker("INVALID");
+    }
+
+    @Test
+    @DisplayName("재시도 예산을 모두 사용하면 더 이상 재시도하지 않음")
+    void 재시도_예산_소진() {
+        // given
+        scraper = resilientScraper(new CircuitBreaker(new CircuitBreaker.Settings(20, 10, 0.5, 60_000, 1)),
+                new RetryBudget(0, 0, 1));
+        when(delegate.scrapCompanyByTicker(any())).thenThrow(upstreamFailure());
+
+        // when
+        assertThrows(RuntimeException.class, () -> scraper.scrapCompanyByTicker("AAPL"));
+        assertThrows(RuntimeException.class, () -> scraper.scrapCompanyByTicker("MSFT"));
+
+        // then
+        // 첫 호출: 원래 요청 + 예산 1개로 재시도 1회 후 예산 소진, 두 번째 호출: 예산이 없어 원래 요청만
+        verify(delegate, times(3)).scrapCompanyByTicker(any());
+        assertEquals(2.0, meterRegistry.counter("scraper.retry.budget.exhausted").count());
+    }
+
+    @Test
+    @DisplayName("서킷이 열리면 업스트림을 호출하지 않고 즉시 503 예외")
+    void 서킷_열림_즉시_실패() {
+        // given
+        scraper = resilientScraper(new CircuitBreaker(new CircuitBreaker.Settings(20, 1, 0.5, 60_000, 1)),
+                new RetryBudget(0.1, 0, 10));
+        when(delegate.scrapCompanyByTicker("AAPL")).thenThrow(upstreamFailure());
+
+        // when
+        assertThrows(ScraperUnavailableException.class, () -> scraper.scrapCompanyByTicker("AAPL"));
+        ScraperUnavailableException exception =
+                assertThrows(ScraperUnavailableException.class, () -> scraper.scrapCompanyByTicker("AAPL"));
+
+        // then
+        assertEquals(503, exception.getStatusCode());
+        verify(delegate, times(1)).scrapCompanyByTicker("AAPL");
+        assertEquals(2.0, meterRegistry.counter("scraper.circuit.rejected").count());
+    }
+
+    @Test
+    @DisplayName("취소되어 인터럽트된 호출은 재시도하지 않고 실패로 기록하지 않음")
+    void 취소된_호출은_재시도하지_않음() {
+        // given
+        CircuitBreaker breaker = new CircuitBreaker(new CircuitBreaker.Settings(20, 1, 0.5, 60_000, 1));
+        scraper = resilientScraper(breaker, new RetryBudget(0.1, 0, 10));
+        when(delegate.scrap(any())).thenAnswer(invocation -> {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("배당금 데이터 스크래핑 중 오류가 발생했습니다: interrupted",
+                    new InterruptedIOException("interrupted"));
+        });
+
+        // when
+        try {
+            assertThrows(RuntimeException.class, () -> scraper.scrap(new Company("AAPL", null)));
+        } finally {
+            Thread.interrupted();
+        }
+
+        // then
+        verify(delegate, times(1)).scrap(any());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    private ResilientScraper resilientScraper(CircuitBreaker breaker, RetryBudget budget) {
+        return new ResilientScraper(delegate, breaker, budget, new ResilientScraper.RetrySettings(3, 1, 5), meterRegistry);
+    }
+
+    private static RuntimeException upstreamFailure() {
+        return new RuntimeException("회사 정보 스크래핑 중 오류가 발생했습니다: timeout", new SocketTimeoutException("timeout"));
+    }
+}
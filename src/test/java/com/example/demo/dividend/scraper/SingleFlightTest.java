@@ -0,0 +1,100 @@
+package com.example.demo.dividend.scraper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    @DisplayName("같은 키의 동시 요청은 한 번만 실행하고 결과를 공유")
+    void 동시_요청_결과_공유() throws Exception {
+        // given
+        int callers = 8;
+        AtomicInteger loads = new AtomicInteger();
+        AtomicInteger shared = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("AAPL", () -> {
+                loads.incrementAndGet();
+                await(release);
+                return "Apple Inc.";
+            }, shared::incrementAndGet)));
+        }
+        while (shared.get() < callers - 1) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertEquals("Apple Inc.", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(0, singleFlight.inFlightCount());
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("먼저 실행한 요청의 예외를 합류한 호출자에게도 전달")
+    void 예외_공유() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute("BROKEN", () -> {
+            started.countDown();
+            await(release);
+            throw new IllegalStateException("scraping failed");
+        }));
+        started.await();
+
+        // when
+        Future<String> follower = executor.submit(() -> singleFlight.execute("BROKEN",
+                () -> fail("loader should not run twice"), release::countDown));
+
+        // then
+        ExecutionException leaderError = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        ExecutionException followerError = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, leaderError.getCause());
+        assertSame(leaderError.getCause(), followerError.getCause());
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("완료된 요청의 결과는 보관하지 않고 다음 요청에서 다시 실행")
+    void 완료_후_재실행() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        singleFlight.execute("AAPL", () -> "v" + loads.incrementAndGet());
+        String second = singleFlight.execute("AAPL", () -> "v" + loads.incrementAndGet());
+
+        // then
+        assertEquals("v2", second);
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
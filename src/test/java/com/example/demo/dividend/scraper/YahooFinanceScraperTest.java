@@ -3,27 +3,32 @@ package com.example.demo.dividend.scraper;
 import com.example.demo.dividend.model.Company;
 import com.example.demo.dividend.model.Dividend;
 import com.example.demo.dividend.model.ScrapedResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.Cache;
+import okhttp3.OkHttpClient;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
 import okhttp3.mockwebserver.SocketPolicy;
 import org.junit.jupiter.api.*;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.junit.jupiter.MockitoExtension;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.File;
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-@ExtendWith(MockitoExtension.class)
 class YahooFinanceScraperTest {
 
-    @InjectMocks
+    private static final HedgedRequests NO_HEDGING =
+            new HedgedRequests(HedgedRequests.Settings.DISABLED, new SimpleMeterRegistry());
+
     private YahooFinanceScraper scraper;
 
-    private static MockWebServer mockWebServer;
+    private MockWebServer mockWebServer;
     private static final String MOCK_COMPANY_HTML = """
             <html>
                 <h1>AAPL - Apple Inc.</h1>
@@ -47,20 +52,15 @@ class YahooFinanceScraperTest {
             }
             """;
 
-    @BeforeAll
-    static void setUp() throws IOException {
+    @BeforeEach
+    void setUp() throws IOException {
         mockWebServer = new MockWebServer();
         mockWebServer.start();
-        
-        String baseUrl = String.format("http://localhost:%s", mockWebServer.getPort());
-        YahooFinanceScraper.setTestUrls(
-            baseUrl + "/quote/%s",
-            baseUrl + "/v8/finance/chart/%s"
-        );
+        scraper = scraperWith(new OkHttpClient());
     }
 
-    @AfterAll
-    static void tearDown() throws IOException {
+    @AfterEach
+    void tearDown() throws IOException {
         mockWebServer.shutdown();
     }
 
@@ -107,10 +107,66 @@ class YahooFinanceScraperTest {
         
         Dividend dividend = dividends.get(0);
         assertNotNull(dividend, "Dividend record should not be null");
-        assertEquals("0.24", dividend.getDividend(), "Dividend amount should match");
+        assertEquals(new BigDecimal("0.24"), dividend.getDividend(), "Dividend amount should match");
         assertEquals(LocalDateTime.of(2024, 3, 1, 0, 0), dividend.getDate(), "Dividend date should match");
     }
 
+    @Test
+    @DisplayName("마지막 배당금 이후 구간만 요청하고 이후 배당금만 반환")
+    void 증분_배당금_스크래핑() throws InterruptedException {
+        // given
+        Company company = new Company("AAPL", "Apple Inc.");
+        LocalDateTime since = LocalDateTime.of(2024, 2, 9, 0, 0);
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setHeader("Content-Type", "application/json")
+                .setBody("""
+                        {"chart": {"result": [{"events": {"dividends": {
+                            "1707436800": {"amount": 0.24, "date": 1707436800},
+                            "1715299200": {"amount": 0.25, "date": 1715299200}
+                        }}}]}}
+                        """));
+
+        // when
+        ScrapedResult result = scraper.scrapSince(company, since);
+
+        // then
+        RecordedRequest request = mockWebServer.takeRequest();
+        assertEquals("1707436801", request.getRequestUrl().queryParameter("period1"));
+        assertEquals(1, result.getDividends().size());
+        assertEquals(LocalDateTime.of(2024, 5, 10, 0, 0), result.getDividends().get(0).getDate());
+    }
+
+    @Test
+    @DisplayName("디스크 캐시에 저장된 응답은 조건부 요청으로 재검증")
+    void 캐시된_응답_재검증(@TempDir File cacheDir) throws InterruptedException {
+        // given
+        YahooFinanceScraper cachingScraper = scraperWith(new OkHttpClient.Builder()
+                .cache(new Cache(cacheDir, 10 * 1024 * 1024))
+                .addNetworkInterceptor(new RevalidatingCacheInterceptor(0))
+                .build());
+        Company company = new Company("AAPL", "Apple Inc.");
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setHeader("Content-Type", "application/json")
+                .setHeader("Cache-Control", "no-store")
+                .setHeader("ETag", "\"v1\"")
+                .setBody(MOCK_DIVIDEND_JSON));
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(304)
+                .setHeader("ETag", "\"v1\""));
+
+        // when
+        ScrapedResult first = cachingScraper.scrap(company);
+        ScrapedResult second = cachingScraper.scrap(company);
+
+        // then
+        assertNull(mockWebServer.takeRequest().getHeader("If-None-Match"));
+        assertEquals("\"v1\"", mockWebServer.takeRequest().getHeader("If-None-Match"));
+        assertEquals(first.getDividends(), second.getDividends());
+        assertEquals(1, second.getDividends().size());
+    }
+
     @Test
     @DisplayName("유효하지 않은 티커의 경우 예외가 발생")
     void 유효하지_않은_티커_스크래핑() {
@@ -136,4 +192,10 @@ class YahooFinanceScraperTest {
             scraper.scrapCompanyByTicker("AAPL");
         });
     }
+
+    private YahooFinanceScraper scraperWith(OkHttpClient client) {
+        String baseUrl = String.format("http://localhost:%s", mockWebServer.getPort());
+        return new YahooFinanceScraper(client, NO_HEDGING,
+                baseUrl + "/v8/finance/chart/%s?period1=%d", baseUrl + "/quote/%s");
+    }
 }
@@ -1,12 +1,17 @@
 package com.example.demo.dividend.service;
 
+import com.example.demo.dividend.exception.impl.InvalidCursorException;
 import com.example.demo.dividend.exception.impl.NoCompanyException;
 import com.example.demo.dividend.model.Company;
+import com.example.demo.dividend.model.CursorPage;
 import com.example.demo.dividend.model.Dividend;
 import com.example.demo.dividend.model.ScrapedResult;
+import com.example.demo.dividend.model.constants.CacheKey;
 import com.example.demo.dividend.persist.entity.CompanyEntity;
+import com.example.demo.dividend.persist.entity.DividendEntity;
 import com.example.demo.dividend.persist.repository.CompanyRepository;
 import com.example.demo.dividend.persist.repository.DividendRepository;
+import com.example.demo.dividend.scraper.AsyncScraper;
 import com.example.demo.dividend.scraper.Scraper;
 import org.apache.commons.collections4.Trie;
 import org.junit.jupiter.api.Test;
@@ -14,16 +19,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,12 +49,21 @@ class CompanyServiceTest {
     @Mock
     private Scraper yahooFinanceScraper;
 
+    @Mock
+    private AsyncScraper asyncScraper;
+
     @Mock
     private CompanyRepository companyRepository;
 
     @Mock
     private DividendRepository dividendRepository;
 
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache financeCache;
+
     @InjectMocks
     private CompanyService companyService;
 
@@ -55,14 +78,14 @@ class CompanyServiceTest {
                 .build();
         
         List<Dividend> dividends = List.of(
-            new Dividend(LocalDateTime.now(), "0.5"),
-            new Dividend(LocalDateTime.now().minusMonths(3), "0.5")
+            new Dividend(LocalDateTime.now(), new BigDecimal("0.5")),
+            new Dividend(LocalDateTime.now().minusMonths(3), new BigDecimal("0.5"))
         );
         ScrapedResult scrapedResult = new ScrapedResult(company, dividends);
         
         when(companyRepository.existsByTicker(ticker)).thenReturn(false);
-        when(yahooFinanceScraper.scrapCompanyByTicker(ticker)).thenReturn(company);
-        when(yahooFinanceScraper.scrap(company)).thenReturn(scrapedResult);
+        when(asyncScraper.scrapCompanyByTickerAsync(ticker)).thenReturn(CompletableFuture.completedFuture(company));
+        when(asyncScraper.scrapAsync(any())).thenReturn(CompletableFuture.completedFuture(scrapedResult));
         when(companyRepository.save(any())).thenReturn(companyEntity);
         when(dividendRepository.saveAll(anyList())).thenReturn(List.of());
 
@@ -76,6 +99,78 @@ class CompanyServiceTest {
         verify(dividendRepository).saveAll(anyList());
     }
 
+    @Test
+    void 동시에_같은_티커_등록시_중복_예외() {
+        // given
+        String ticker = "AAPL";
+        Company company = new Company(ticker, "Apple Inc.");
+
+        when(companyRepository.existsByTicker(ticker)).thenReturn(false);
+        when(asyncScraper.scrapCompanyByTickerAsync(ticker)).thenReturn(CompletableFuture.completedFuture(company));
+        when(asyncScraper.scrapAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(new ScrapedResult(company, List.of())));
+        when(companyRepository.save(any())).thenThrow(new DataIntegrityViolationException("unique ticker"));
+
+        // when & then
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> companyService.save(ticker));
+        assertEquals("already exists ticker -> AAPL", exception.getMessage());
+        verify(dividendRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void 스크래핑_실패시_원래_예외_전달() {
+        // given
+        String ticker = "INVALID";
+
+        when(companyRepository.existsByTicker(ticker)).thenReturn(false);
+        when(asyncScraper.scrapCompanyByTickerAsync(ticker))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("failed to scrap ticker -> " + ticker)));
+        when(asyncScraper.scrapAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(new ScrapedResult(new Company(ticker, null), List.of())));
+
+        // when & then
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> companyService.save(ticker));
+        assertEquals("failed to scrap ticker -> INVALID", exception.getMessage());
+        verify(companyRepository, never()).save(any());
+    }
+
+    @Test
+    void 잘못된_티커_등록시_배당금_스크래핑_취소() {
+        // given
+        String ticker = "INVALID";
+        CompletableFuture<ScrapedResult> dividendFuture = new CompletableFuture<>();
+
+        when(companyRepository.existsByTicker(ticker)).thenReturn(false);
+        when(asyncScraper.scrapCompanyByTickerAsync(ticker))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("유효하지 않은 회사 티커입니다: " + ticker)));
+        when(asyncScraper.scrapAsync(any())).thenReturn(dividendFuture);
+
+        // when
+        assertThrows(RuntimeException.class, () -> companyService.save(ticker));
+
+        // then
+        assertTrue(dividendFuture.isCancelled());
+        verify(companyRepository, never()).save(any());
+    }
+
+    @Test
+    void 회사_정보가_없으면_배당금_스크래핑_취소() {
+        // given
+        String ticker = "INVALID";
+        CompletableFuture<ScrapedResult> dividendFuture = new CompletableFuture<>();
+
+        when(companyRepository.existsByTicker(ticker)).thenReturn(false);
+        when(asyncScraper.scrapCompanyByTickerAsync(ticker)).thenReturn(CompletableFuture.completedFuture(null));
+        when(asyncScraper.scrapAsync(any())).thenReturn(dividendFuture);
+
+        // when
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> companyService.save(ticker));
+
+        // then
+        assertEquals("failed to scrap ticker -> INVALID", exception.getMessage());
+        assertTrue(dividendFuture.isCancelled());
+    }
+
     @Test
     void 회사_조회_성공() {
         // given
@@ -103,6 +198,51 @@ class CompanyServiceTest {
         verify(companyRepository).findAll(pageRequest);
     }
 
+    @Test
+    void 커서_기반_회사_목록_조회() {
+        // given
+        CompanyEntity apple = new CompanyEntity(1L, "AAPL", "Apple Inc.");
+        CompanyEntity microsoft = new CompanyEntity(2L, "MSFT", "Microsoft Corporation");
+        CompanyEntity nvidia = new CompanyEntity(3L, "NVDA", "NVIDIA Corporation");
+
+        when(companyRepository.findByNameNotNullOrderByNameAscIdAsc(PageRequest.of(0, 3)))
+                .thenReturn(List.of(apple, microsoft, nvidia));
+        when(companyRepository.findNextByName("Microsoft Corporation", 2L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(nvidia));
+
+        // when
+        CursorPage<CompanyEntity> first = companyService.getCompaniesAfter(null, 2, "name");
+        CursorPage<CompanyEntity> second = companyService.getCompaniesAfter(first.getNextCursor(), 2, "id");
+
+        // then
+        assertEquals(List.of(apple, microsoft), first.getContent());
+        assertTrue(first.isHasNext());
+        assertEquals(List.of(nvidia), second.getContent());
+        assertFalse(second.isHasNext());
+        assertNull(second.getNextCursor());
+        verify(companyRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void 잘못된_커서로_조회시_실패() {
+        // when & then
+        assertThrows(InvalidCursorException.class, () -> companyService.getCompaniesAfter("not-a-cursor", 20, "id"));
+        assertThrows(InvalidCursorException.class, () -> companyService.getCompaniesAfter(null, 20, "ticker"));
+    }
+
+    @Test
+    void 회사명_자동완성은_소문자로_정규화한_회사명으로_검색() {
+        // given
+        when(companyRepository.findByNameLowerStartingWithOrderByNameLowerAsc("app", PageRequest.of(0, 10)))
+                .thenReturn(List.of(new CompanyEntity(1L, "AAPL", "Apple Inc."), new CompanyEntity(2L, "APLE", "Apple Hospitality REIT")));
+
+        // when
+        List<String> names = companyService.getCompanyNamesByKeyword("App");
+
+        // then
+        assertEquals(List.of("Apple Inc.", "Apple Hospitality REIT"), names);
+    }
+
     @Test
     void 회사_삭제_성공() {
         // given
@@ -126,6 +266,111 @@ class CompanyServiceTest {
         verify(trie).remove(company.getName());
     }
 
+    @Test
+    void 회사_삭제시_자동완성_키워드는_커밋_후_삭제() {
+        // given
+        String ticker = "AAPL";
+        CompanyEntity company = CompanyEntity.builder()
+                .id(1L)
+                .ticker(ticker)
+                .name("Apple Inc.")
+                .build();
+
+        when(companyRepository.findByTicker(ticker)).thenReturn(Optional.of(company));
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // when
+            companyService.deleteCompany(ticker);
+
+            // then
+            verify(trie, never()).remove(any());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(trie).remove(company.getName());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 배당금_갱신시_마지막_배당금_이후만_스크래핑() {
+        // given
+        LocalDateTime latest = LocalDateTime.of(2024, 2, 9, 0, 0);
+        LocalDateTime fresh = LocalDateTime.of(2024, 5, 10, 0, 0);
+        CompanyEntity company = CompanyEntity.builder()
+                .id(1L)
+                .ticker("AAPL")
+                .name("Apple Inc.")
+                .build();
+        ScrapedResult scrapedResult = new ScrapedResult(new Company(1L, "AAPL", "Apple Inc."), List.of(
+                new Dividend(fresh, new BigDecimal("0.25"))
+        ));
+
+        when(dividendRepository.findLatestDateByCompanyId(1L)).thenReturn(Optional.of(latest));
+        when(yahooFinanceScraper.scrapSince(any(), eq(latest))).thenReturn(scrapedResult);
+        when(dividendRepository.upsertAll(anyList())).thenReturn(1);
+        when(cacheManager.getCache(CacheKey.KEY_FINANCE)).thenReturn(financeCache);
+
+        // when
+        int inserted = companyService.updateDividends(company);
+
+        // then
+        assertEquals(1, inserted);
+        verify(yahooFinanceScraper, never()).scrap(any());
+        verify(dividendRepository).upsertAll(argThat(entities ->
+                entities.size() == 1 && entities.get(0).getDate().equals(fresh)));
+        verify(financeCache).evict("Apple Inc.");
+    }
+
+    @Test
+    void 저장된_배당금이_없으면_전체_기간_스크래핑() {
+        // given
+        CompanyEntity company = CompanyEntity.builder()
+                .id(1L)
+                .ticker("AAPL")
+                .name("Apple Inc.")
+                .build();
+        ScrapedResult scrapedResult = new ScrapedResult(new Company(1L, "AAPL", "Apple Inc."), List.of(
+                new Dividend(LocalDateTime.of(2024, 2, 9, 0, 0), new BigDecimal("0.24")),
+                new Dividend(LocalDateTime.of(2024, 5, 10, 0, 0), new BigDecimal("0.25"))
+        ));
+
+        when(dividendRepository.findLatestDateByCompanyId(1L)).thenReturn(Optional.empty());
+        when(yahooFinanceScraper.scrap(any())).thenReturn(scrapedResult);
+
+        // when
+        int inserted = companyService.updateDividends(company);
+
+        // then
+        assertEquals(2, inserted);
+        verify(yahooFinanceScraper, never()).scrapSince(any(), any());
+        verify(dividendRepository).upsertAll(anyList());
+    }
+
+    @Test
+    void 배당금_변경이_없으면_저장하지_않음() {
+        // given
+        LocalDateTime latest = LocalDateTime.of(2024, 2, 9, 0, 0);
+        CompanyEntity company = CompanyEntity.builder()
+                .id(1L)
+                .ticker("AAPL")
+                .name("Apple Inc.")
+                .build();
+
+        when(dividendRepository.findLatestDateByCompanyId(1L)).thenReturn(Optional.of(latest));
+        when(yahooFinanceScraper.scrapSince(any(), eq(latest)))
+                .thenReturn(new ScrapedResult(new Company(1L, "AAPL", "Apple Inc."), List.of()));
+
+        // when
+        int inserted = companyService.updateDividends(company);
+
+        // then
+        // 변경이 없으면 캐시를 삭제하지 않아 배당 예상일 기준 TTL이 유지됨
+        assertEquals(0, inserted);
+        verify(dividendRepository, never()).upsertAll(anyList());
+        verify(cacheManager, never()).getCache(any());
+    }
+
     @Test
     void 존재하지_않는_회사_삭제_실패() {
         // given
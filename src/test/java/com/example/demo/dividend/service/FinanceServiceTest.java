@@ -10,6 +10,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -43,8 +44,8 @@ class FinanceServiceTest {
 
         LocalDateTime now = LocalDateTime.now();
         List<Dividend> dividends = Arrays.asList(
-            new Dividend(now, "0.85"),
-            new Dividend(now.minusMonths(3), "0.82")
+            new Dividend(now, new BigDecimal("0.85")),
+            new Dividend(now.minusMonths(3), new BigDecimal("0.82"))
         );
 
         when(companyService.findByName(companyName)).thenReturn(Optional.of(company));
@@ -0,0 +1,114 @@
+package com.example.demo.dividend.service;
+
+import com.example.demo.dividend.persist.entity.ScrapTaskEntity;
+import com.example.demo.dividend.persist.entity.ScrapTaskEntity.Status;
+import com.example.demo.dividend.persist.repository.ScrapTaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScrapTaskServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 0, 0);
+
+    @Mock
+    private ScrapTaskRepository scrapTaskRepository;
+
+    @InjectMocks
+    private ScrapTaskService scrapTaskService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(scrapTaskService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(scrapTaskService, "leaseSeconds", 300L);
+        ReflectionTestUtils.setField(scrapTaskService, "backoffBaseSeconds", 30L);
+        ReflectionTestUtils.setField(scrapTaskService, "backoffMaxSeconds", 3600L);
+        ReflectionTestUtils.setField(scrapTaskService, "requeueIntervalMinutes", 60L);
+    }
+
+    @Test
+    void 작업_등록시_다른_노드가_만든_작업은_건너뜀() {
+        // given
+        when(scrapTaskRepository.findCompanyIdsWithoutTask()).thenReturn(List.of(1L, 2L));
+        when(scrapTaskRepository.saveAndFlush(argThat(t -> t != null && t.getCompanyId() == 1L)))
+                .thenThrow(new DataIntegrityViolationException("unique companyId"));
+        when(scrapTaskRepository.requeue(anyCollection(), eq(NOW), eq(NOW.minusMinutes(60)))).thenReturn(5);
+
+        // when
+        int enqueued = scrapTaskService.enqueueAll(NOW);
+
+        // then
+        assertEquals(6, enqueued);
+        verify(scrapTaskRepository, times(2)).saveAndFlush(any());
+    }
+
+    @Test
+    void 임대에_성공한_작업만_반환() {
+        // given
+        ScrapTaskEntity leased = ScrapTaskEntity.builder().id(1L).companyId(1L).status(Status.RUNNING).build();
+        when(scrapTaskRepository.findLeasableIds(eq(NOW), eq(3), any())).thenReturn(List.of(1L, 2L, 3L, 4L, 5L));
+        when(scrapTaskRepository.lease(anyCollection(), eq("node-1"), anyString(), eq(NOW), eq(NOW.plusSeconds(300)), eq(3)))
+                .thenReturn(1);
+        when(scrapTaskRepository.findAllByLeaseToken(anyString())).thenReturn(List.of(leased));
+
+        // when
+        List<ScrapTaskEntity> tasks = scrapTaskService.lease("node-1", 2, NOW);
+
+        // then
+        assertEquals(List.of(leased), tasks);
+        verify(scrapTaskRepository).lease(argThat((Collection<Long> ids) -> ids.size() == 2),
+                anyString(), anyString(), any(), any(), anyInt());
+    }
+
+    @Test
+    void 실패한_작업은_대기_후_재시도() {
+        // given
+        ScrapTaskEntity task = ScrapTaskEntity.builder().id(1L).companyId(1L).attempts(2).leaseToken("token").build();
+        when(scrapTaskRepository.release(eq(1L), eq("token"), eq(Status.PENDING), any(), eq("timeout"))).thenReturn(1);
+
+        // when
+        scrapTaskService.fail(task, new RuntimeException("timeout"), NOW);
+
+        // then
+        // 두 번째 시도 실패 -> 기본 대기 시간(30초)의 2배에 지터를 적용한 30~60초 뒤
+        verify(scrapTaskRepository).release(eq(1L), eq("token"), eq(Status.PENDING),
+                argThat(at -> !at.isBefore(NOW.plusSeconds(30)) && !at.isAfter(NOW.plusSeconds(60))), eq("timeout"));
+    }
+
+    @Test
+    void 최대_시도_횟수를_넘으면_실패로_표시() {
+        // given
+        ScrapTaskEntity task = ScrapTaskEntity.builder().id(1L).companyId(1L).attempts(3).leaseToken("token").build();
+
+        // when
+        scrapTaskService.fail(task, new RuntimeException("not found"), NOW);
+
+        // then
+        verify(scrapTaskRepository).release(1L, "token", Status.FAILED, NOW, "not found");
+    }
+
+    @Test
+    void 재시도_대기_시간은_최대값을_넘지_않음() {
+        // when
+        Duration backoff = scrapTaskService.backoff(30);
+
+        // then
+        assertTrue(backoff.compareTo(Duration.ofSeconds(1800)) >= 0);
+        assertTrue(backoff.compareTo(Duration.ofSeconds(3600)) <= 0);
+    }
+}